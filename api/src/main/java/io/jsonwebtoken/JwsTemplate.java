@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken;
+
+import java.util.Map;
+
+/**
+ * An immutable, thread-safe template for creating many JWSs that share the same protected header, signing key and
+ * signature algorithm, created via {@link JwtBuilder#template()}.
+ *
+ * <p>The JWS Protected Header is serialized and Base64URL-encoded only once, when the template is created. Each
+ * {@link #compact(Map) compact} call then only serializes and encodes the JWS payload and computes the signature,
+ * producing exactly the same result as an equivalent {@link JwtBuilder} would.</p>
+ *
+ * <p>Example:</p>
+ * <blockquote><pre>
+ * JwsTemplate template = Jwts.builder().issuer("me").signWith(key).template();
+ *
+ * String jws = template.compact(claims); // claims: per-token sub, iat, exp, jti, etc.</pre></blockquote>
+ *
+ * @see JwtBuilder#template()
+ * @since 0.12.6
+ */
+public interface JwsTemplate {
+
+    /**
+     * Creates a new compact JWS with the template's claims, if any, combined with the specified per-token
+     * {@code claims}.  A per-token claim replaces any template claim with the same name, and a {@code null} per-token
+     * claim value removes that template claim from the resulting JWS.
+     *
+     * @param claims the per-token claims to add to the template's claims, may be {@code null} or empty.
+     * @return a new compact JWS.
+     */
+    String compact(Map<String, ?> claims);
+}
@@ -72,6 +72,28 @@ public interface JwtBuilder extends ClaimsMutator<JwtBuilder> {
      */
     JwtBuilder random(SecureRandom secureRandom);
 
+    /**
+     * Enables reuse of JCA {@code Mac}, {@code Signature} and {@code Cipher} instances when computing the JWS
+     * signature instead of obtaining a new instance from the JCA {@code Provider} for every signed JWT.
+     *
+     * <p>Instances are pooled per-thread and keyed by JCA algorithm name and {@code Provider}, so the pool is
+     * shared by all builders that enable this option on the same thread. An instance is only ever used by one thread
+     * at a time, is fully re-initialized with the signing key before each use, and is discarded rather than reused if
+     * any error occurs while using it.</p>
+     *
+     * <p>Because a {@code Mac}, {@code Signature} or {@code Cipher} obtained without a {@code Provider} selects its
+     * provider when first initialized with a key, a pooled instance might reject a key supported only by another
+     * provider, such as an HSM key. Such a pooled instance is then discarded and the operation is retried with a new
+     * instance, so these keys always remain usable.</p>
+     *
+     * <p>This is disabled by default.</p>
+     *
+     * @return the builder for method chaining.
+     * @see JwtParserBuilder#poolJcaInstances()
+     * @since 0.12.6
+     */
+    JwtBuilder poolJcaInstances();
+
     /**
      * Returns the {@code Header} to use to modify the constructed JWT's header name/value pairs as desired.
      * When finished, callers may return to JWT construction via the {@link BuilderHeader#and() and()} method.
@@ -1032,6 +1054,25 @@ public interface JwtBuilder extends ClaimsMutator<JwtBuilder> {
      */
     String compact();
 
+    /**
+     * Returns an immutable, thread-safe {@link JwsTemplate} that efficiently creates any number of JWSs with this
+     * builder's current protected header, signing key, signature algorithm and claims.
+     *
+     * <p>The protected header is serialized and encoded once, here, and is identical in every JWS created by the
+     * template; each {@link JwsTemplate#compact(Map) compact} call only needs to supply the claims that differ per
+     * token.  Subsequent changes to this builder do not affect the returned template.</p>
+     *
+     * <p>A {@link #signWith(Key, SecureDigestAlgorithm) signing key} is required, and templates only create JWSs with
+     * claims payloads, so this builder must not be configured with {@link #content(byte[]) content}, to
+     * {@link #encryptWith(SecretKey, AeadAlgorithm) encrypt}, or to produce {@link #encodePayload(boolean) unencoded}
+     * payloads.</p>
+     *
+     * @return a new immutable, thread-safe JWS template.
+     * @throws IllegalStateException if this builder is not configured to create a JWS with a claims payload.
+     * @since 0.12.6
+     */
+    JwsTemplate template() throws IllegalStateException;
+
     /**
      * Claims for use with a {@link JwtBuilder} that supports method chaining for standard JWT Claims parameters.
      * Once claims are configured, the associated {@link JwtBuilder} may be obtained with the {@link #and() and()}
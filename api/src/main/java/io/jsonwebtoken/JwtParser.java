@@ -20,6 +20,8 @@ import io.jsonwebtoken.security.SecurityException;
 import io.jsonwebtoken.security.SignatureException;
 
 import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * A parser for reading JWT strings, used to convert them into a {@link Jwt} object representing the expanded JWT.
@@ -82,6 +84,31 @@ public interface JwtParser extends Parser<Jwt<?, ?>> {
     Jwt<?, ?> parse(CharSequence jwt) throws ExpiredJwtException, MalformedJwtException, SignatureException,
             SecurityException, IllegalArgumentException;
 
+    /**
+     * Parses each of the specified compact JWTs exactly as {@link #parse(CharSequence)} would, using the specified
+     * {@code executor} to parse them concurrently, and returns one {@link JwtResult} per JWT in iteration order.
+     *
+     * <p>A JWT that cannot be parsed does not fail the batch: its result reflects the exception that
+     * {@link #parse(CharSequence)} would have thrown instead. JWTs with identical protected headers are parsed
+     * together, so that the configured key {@link Locator} is consulted only once per distinct header.  As such, the
+     * key {@code Locator} should return the same key for identical headers, which is almost always the case.</p>
+     *
+     * <p>This method blocks until all JWTs have been parsed. The {@code executor} may be any {@link Executor},
+     * such as a {@link java.util.concurrent.ForkJoinPool ForkJoinPool} or a fixed thread pool. The calling thread
+     * also parses any JWTs the {@code executor} has not yet started parsing, and only waits for work that is already
+     * running, so this method may safely be called from one of the {@code executor}'s own threads. Any work the
+     * {@code executor} rejects is performed on the calling thread instead.</p>
+     *
+     * @param jwts     the compact serialized JWTs to parse
+     * @param executor the executor used to parse the JWTs concurrently
+     * @return one result per JWT, in the same order as {@code jwts}
+     * @throws IllegalArgumentException if {@code jwts} or {@code executor} is {@code null}
+     * @throws IllegalStateException    if the calling thread is interrupted while waiting for results
+     * @since 0.12.6
+     */
+    List<JwtResult> parseAll(Iterable<? extends CharSequence> jwts, Executor executor)
+            throws IllegalArgumentException, IllegalStateException;
+
     /**
      * Deprecated since 0.12.0 in favor of calling any {@code parse*} method immediately
      * followed by invoking the parsed JWT's {@link Jwt#accept(JwtVisitor) accept} method with your preferred visitor. For
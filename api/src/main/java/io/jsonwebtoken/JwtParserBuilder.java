@@ -137,6 +137,137 @@ public interface JwtParserBuilder extends Builder<JwtParser> {
      */
     JwtParserBuilder provider(Provider provider);
 
+    /**
+     * Enables reuse of JCA {@code Mac}, {@code Signature} and {@code Cipher} instances during signature
+     * verification instead of obtaining a new instance from the JCA {@code Provider} for every parsed JWS.
+     *
+     * <p>Instances are pooled per-thread and keyed by JCA algorithm name and {@code Provider}. An instance is
+     * only ever used by one thread at a time, is fully re-initialized with the verification key before each use, and
+     * is discarded rather than reused if any error occurs while using it.</p>
+     *
+     * <p>Because a {@code Mac}, {@code Signature} or {@code Cipher} obtained without a {@code Provider} selects its
+     * provider when first initialized with a key, a pooled instance might reject a key supported only by another
+     * provider, such as an HSM key. Such a pooled instance is then discarded and the operation is retried with a new
+     * instance, so these keys always remain usable.</p>
+     *
+     * <p>This is disabled by default. It can significantly reduce JCA provider lookup cost and garbage for
+     * applications that verify a high volume of JWSs, at the expense of retaining one engine instance per
+     * algorithm/provider combination for each parsing thread.</p>
+     *
+     * @return the builder for method chaining.
+     * @see JwtBuilder#poolJcaInstances()
+     * @since 0.12.6
+     */
+    JwtParserBuilder poolJcaInstances();
+
+    /**
+     * Sets the maximum number of HMAC verification keys for which the parser retains a {@code Mac} instance that
+     * has already been initialized with that key. When a JWS is verified with a key that has been seen before (the
+     * same {@code SecretKey} instance, not just an equal one), the parser uses a clone of the retained instance instead
+     * of re-initializing a {@code Mac}, avoiding the HMAC key schedule on every verification. The least recently used
+     * key is evicted when the size is exceeded.
+     *
+     * <p>If a JCA {@code Provider}'s {@code Mac} implementation does not support cloning, the parser simply
+     * initializes a {@code Mac} for every verification as usual.</p>
+     *
+     * <p>This is disabled by default (a size of {@code 0}). Enabling it retains references to up to {@code size}
+     * verification keys (and their initialized {@code Mac}s) for the lifetime of the parser, so it is best suited to
+     * applications that verify a high volume of JWSs with a small number of long-lived HMAC keys.</p>
+     *
+     * <p>These keys are kept strongly reachable: a rotated key is not released for garbage collection until it is
+     * evicted by more recently used keys or the parser itself is released.</p>
+     *
+     * @param size the maximum number of HMAC verification keys to retain initialized {@code Mac}s for, or {@code 0}
+     *             to disable.
+     * @return the builder for method chaining.
+     * @throws IllegalArgumentException if {@code size} is negative.
+     * @since 0.12.6
+     */
+    JwtParserBuilder macKeyCacheSize(int size) throws IllegalArgumentException;
+
+    /**
+     * Sets the maximum number of distinct JWS or JWE protected headers the parser retains in decoded form, keyed by
+     * the exact Base64URL header text of the compact JWT. When a JWT is parsed with a header that has been seen
+     * before, the parser reuses the decoded header parameter values (as well as the signature, key management and
+     * encryption algorithms they reference, and the result of validating any
+     * {@link ProtectedHeader#getCritical() crit} header parameter) instead of Base64URL-decoding and deserializing
+     * the header again. Each parsed JWT still has its own {@link Header} instance. The least recently used header is
+     * evicted when the size is exceeded.
+     *
+     * <p>A header is retained only after the JWS signature that covers it has been verified or the JWE that
+     * authenticates it has been decrypted, so headers of unsecured JWTs are never retained. Every JWT is still fully
+     * validated: signatures are always verified, JWEs are always decrypted and claims are always asserted. Nested
+     * JSON object and array values of the resulting headers cannot be modified.</p>
+     *
+     * <p>This is disabled by default (a size of {@code 0}). It is best suited to applications that parse a high
+     * volume of JWTs created by a small number of issuers or keys, and therefore with only a small number of
+     * distinct protected headers.</p>
+     *
+     * @param size the maximum number of decoded protected headers to retain, or {@code 0} to disable.
+     * @return the builder for method chaining.
+     * @throws IllegalArgumentException if {@code size} is negative.
+     * @since 0.12.6
+     */
+    JwtParserBuilder headerCacheSize(int size) throws IllegalArgumentException;
+
+    /**
+     * Enables an in-memory cache of successfully verified JWS and JWE compact strings with {@link Claims} payloads,
+     * so parsing the exact same compact string again does not repeat Base64URL decoding, JSON parsing, key location
+     * and signature verification or decryption.
+     *
+     * <p>The cache retains at most {@code maxEntries} results, evicting the least recently used result when full.
+     * Each result is retained for at most {@code maxAgeSeconds}, and never beyond the token's
+     * {@link Claims#getExpiration() expiration} minus any configured {@link #clockSkewSeconds(long) clock skew}.
+     * The {@code exp} and {@code nbf} claims and all expected claims (for example, {@link #requireSubject(String)})
+     * are still asserted against the parser's {@link #clock(Clock) clock} on every parse, whether or not the result
+     * was cached. Every parse returns a new {@link Jwt} instance, so changes made to one parsed JWT, such as to a
+     * claim's {@code Date} value, never affect any other.</p>
+     *
+     * <p>Unsecured JWTs, JWTs with {@code byte[]} content payloads and JWSs parsed with a separately-provided
+     * unencoded payload are never cached.
+     * Because a cached result is returned without locating its key again, a key that is no longer returned by the
+     * parser's key {@link #keyLocator(Locator) locator} may continue to be accepted for already-cached tokens until
+     * they are evicted or expire: choose a {@code maxAgeSeconds} value appropriate for key rotation.</p>
+     *
+     * <p>This is disabled by default.</p>
+     *
+     * @param maxEntries    the maximum number of verified results to retain, greater than zero
+     * @param maxAgeSeconds the maximum number of seconds to retain any result, greater than zero
+     * @return the builder for method chaining.
+     * @throws IllegalArgumentException if either argument is less than or equal to zero.
+     * @since 0.12.6
+     */
+    JwtParserBuilder cacheVerified(int maxEntries, long maxAgeSeconds) throws IllegalArgumentException;
+
+    /**
+     * Enables an in-memory cache of keys returned by the configured {@link #keyLocator(Locator) key locator}, so
+     * the locator is only invoked for a JWS or JWE protected header when it has not already located a key for a
+     * header with the same {@code alg}, {@code enc} (JWE only), {@code kid}, {@code jku}, {@code x5u}, {@code x5t}
+     * and {@code x5t#S256} values within the last {@code ttlSeconds}, as measured by the parser's
+     * {@link #clock(Clock) clock}.
+     *
+     * <p>The cache retains at most {@code maxEntries} keys, evicting the least recently used key when full. Headers
+     * with an embedded {@code jwk} or {@code x5c} parameter are always passed to the locator, and {@code null}
+     * results or exceptions thrown by the locator are never cached. Signatures are always verified and JWEs are
+     * always decrypted with the located (or cached) key.</p>
+     *
+     * <p><b>Only enable this cache if your locator's result depends solely on the header parameters listed
+     * above</b>: a locator that also inspects other header parameters will not be invoked for headers that differ
+     * only in those parameters. Additionally, a key that is no longer returned by the locator, for example after
+     * key rotation or revocation, may continue to be used until its cache entry expires, so choose a
+     * {@code ttlSeconds} value appropriate for your key rotation policy.</p>
+     *
+     * <p>This has no effect unless a {@link #keyLocator(Locator) keyLocator} is configured, and is disabled by
+     * default.</p>
+     *
+     * @param maxEntries the maximum number of located keys to retain, greater than zero
+     * @param ttlSeconds the maximum number of seconds to retain any located key, greater than zero
+     * @return the builder for method chaining.
+     * @throws IllegalArgumentException if either argument is less than or equal to zero.
+     * @since 0.12.6
+     */
+    JwtParserBuilder cacheLocatedKeys(int maxEntries, long ttlSeconds) throws IllegalArgumentException;
+
     /**
      * Ensures that the specified {@code jti} exists in the parsed JWT.  If missing or if the parsed
      * value does not equal the specified value, an exception will be thrown indicating that the
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken;
+
+/**
+ * The outcome of parsing a single compact JWT as part of a
+ * {@link JwtParser#parseAll(Iterable, java.util.concurrent.Executor) batch}: either the parsed {@link Jwt} or the
+ * exception that parsing it would have thrown.
+ *
+ * @since 0.12.6
+ */
+public interface JwtResult {
+
+    /**
+     * Returns the compact JWT that was parsed, exactly as it was provided to the parser.
+     *
+     * @return the compact JWT that was parsed, exactly as it was provided to the parser.
+     */
+    CharSequence getCompact();
+
+    /**
+     * Returns the parsed JWT, or {@code null} if parsing failed.
+     *
+     * @return the parsed JWT, or {@code null} if parsing failed.
+     */
+    Jwt<?, ?> getJwt();
+
+    /**
+     * Returns the exception thrown while parsing the JWT, or {@code null} if parsing succeeded. This is the same
+     * exception that {@link JwtParser#parse(CharSequence)} would have thrown for the same compact JWT.
+     *
+     * @return the exception thrown while parsing the JWT, or {@code null} if parsing succeeded.
+     */
+    RuntimeException getException();
+}
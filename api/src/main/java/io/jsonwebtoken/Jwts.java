@@ -1069,6 +1069,40 @@ public final class Jwts {
         return Classes.newInstance("io.jsonwebtoken.impl.DefaultJwtParserBuilder");
     }
 
+    /**
+     * Eagerly performs JJWT's lazy, one-time initialization so it does not delay the first JWT created or parsed by
+     * an application, for example, before a readiness probe reports that the application may receive traffic.
+     *
+     * <p>This method always resolves any available fallback JCA provider and loads the JSON
+     * {@code Serializer} and {@code Deserializer} implementations by creating and parsing an unsecured JWT.
+     * Then, for each specified algorithm in order, it creates and parses a throwaway JWT using newly-generated
+     * throwaway keys, exercising that algorithm's JCA provider lookup, key validation and cryptographic
+     * operations:</p>
+     * <ul>
+     *     <li>{@link Jwts.SIG} algorithms are used to sign and verify a JWS,</li>
+     *     <li>{@link Jwts.ENC} algorithms are used to encrypt and decrypt a JWE with a direct key,</li>
+     *     <li>{@link Jwts.KEY} algorithms are used to encrypt and decrypt a JWE with the {@code A128GCM}
+     *     encryption algorithm, and</li>
+     *     <li>{@link Jwts.ZIP} algorithms are used to compress and decompress a small byte array.</li>
+     * </ul>
+     *
+     * <p>Generating throwaway keys can take a noticeable amount of time, particularly for larger RSA key sizes
+     * and PBES2 key derivation, so only specify the algorithms your application actually uses.</p>
+     *
+     * @param algs the standard {@link Jwts.SIG}, {@link Jwts.ENC}, {@link Jwts.KEY} or {@link Jwts.ZIP}
+     *             algorithms to exercise, in order. May be empty.
+     * @return an immutable map of the elapsed time in nanoseconds of each warm-up step, in execution order: the
+     * {@code providers} and {@code json} steps, followed by each specified algorithm keyed by its
+     * {@link Identifiable#getId() id}.
+     * @throws IllegalArgumentException if an algorithm is {@code null} or cannot be exercised with throwaway keys,
+     *                                  for example, a custom {@code KeyAlgorithm}.
+     * @since 0.12.6
+     */
+    public static Map<String, Long> warmUp(Identifiable... algs) throws IllegalArgumentException {
+        Class<?> clazz = Classes.forName("io.jsonwebtoken.impl.security.JwtWarmUp");
+        return Classes.invokeStatic(clazz, "warmUp", new Class[]{Identifiable[].class}, new Object[]{algs});
+    }
+
     /**
      * Private constructor, prevent instantiation.
      */
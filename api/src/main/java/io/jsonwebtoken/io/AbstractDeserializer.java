@@ -65,14 +65,44 @@ public abstract class AbstractDeserializer<T> implements Deserializer<T> {
         try {
             return doDeserialize(reader);
         } catch (Throwable t) {
-            if (t instanceof DeserializationException) {
-                throw (DeserializationException) t;
-            }
-            String msg = "Unable to deserialize: " + t.getMessage();
-            throw new DeserializationException(msg, t);
+            throw wrap(t);
         }
     }
 
+    /**
+     * Converts the specified range of UTF-8 encoded formatted data into a Java object. This avoids the additional
+     * buffering and character decoding of a {@link Reader} when the data is already available in memory, as is the
+     * case for decoded JWT headers and payloads.
+     *
+     * @param bytes  the UTF-8 encoded formatted data to convert
+     * @param offset the index of the first byte to read
+     * @param length the number of bytes to read
+     * @return the deserialized Java object
+     * @throws DeserializationException if there is a problem converting the bytes to an object.
+     * @since 0.12.6
+     */
+    public final T deserialize(byte[] bytes, int offset, int length) throws DeserializationException {
+        Assert.notNull(bytes, "byte array argument cannot be null.");
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            String msg = "Invalid offset " + offset + " and length " + length + " for byte array with length " +
+                    bytes.length + ".";
+            throw new IllegalArgumentException(msg);
+        }
+        try {
+            return doDeserialize(bytes, offset, length);
+        } catch (Throwable t) {
+            throw wrap(t);
+        }
+    }
+
+    private static DeserializationException wrap(Throwable t) {
+        if (t instanceof DeserializationException) {
+            return (DeserializationException) t;
+        }
+        String msg = "Unable to deserialize: " + t.getMessage();
+        return new DeserializationException(msg, t);
+    }
+
     /**
      * Reads the specified character stream and returns the corresponding Java object.
      *
@@ -81,4 +111,21 @@ public abstract class AbstractDeserializer<T> implements Deserializer<T> {
      * @throws Exception if there is a problem reading the stream or creating the expected Java object
      */
     protected abstract T doDeserialize(Reader reader) throws Exception;
+
+    /**
+     * Converts the specified range of UTF-8 encoded formatted data into a Java object. The default implementation
+     * delegates to {@link #doDeserialize(Reader)}; subclasses are encouraged to override this method if their
+     * underlying JSON library can parse UTF-8 bytes directly.
+     *
+     * @param bytes  the UTF-8 encoded formatted data to convert
+     * @param offset the index of the first byte to read
+     * @param length the number of bytes to read
+     * @return the deserialized Java object
+     * @throws Exception if there is a problem converting the bytes to an object.
+     * @since 0.12.6
+     */
+    protected T doDeserialize(byte[] bytes, int offset, int length) throws Exception {
+        InputStream in = new ByteArrayInputStream(bytes, offset, length);
+        return doDeserialize(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.security;
+
+import java.util.Set;
+
+/**
+ * Selects the {@link Jwk}s in a {@link JwkSet} that match all specified criteria, obtained via
+ * {@link JwkSet#select()}. For example:
+ *
+ * <blockquote><pre>
+ * Set&lt;Jwk&lt;?&gt;&gt; candidates = jwkSet.select().id(header.getKeyId()).use("sig").get();</pre></blockquote>
+ *
+ * <p>Lookups by {@link #id(String) id}, {@link #x509Sha1Thumbprint(byte[]) x5t},
+ * {@link #x509Sha256Thumbprint(byte[]) x5t#S256} and {@link #thumbprint(JwkThumbprint) thumbprint} are resolved via
+ * hash indexes maintained by the {@code JwkSet}, so their cost does not depend on the number of JWKs in the set.</p>
+ *
+ * <p>The {@link #use(String) use}, {@link #operation(KeyOperation) operation} and {@link #algorithm(String) algorithm}
+ * criteria only exclude JWKs that <em>restrict</em> their usage in a conflicting way: a JWK that does not have a
+ * {@code use}, {@code key_ops} or {@code alg} member is not restricted by that member, and therefore matches.</p>
+ *
+ * <p>A {@code null} argument to any method clears that criterion. A selector is not thread-safe and is intended to
+ * be used for a single lookup.</p>
+ *
+ * @since 0.12.6
+ */
+public interface JwkSelector {
+
+    /**
+     * Selects only JWKs with the specified {@link Jwk#getId() kid (Key ID)}.
+     *
+     * @param kid the required {@code kid} value
+     * @return the selector for method chaining.
+     */
+    JwkSelector id(String kid);
+
+    /**
+     * Selects only {@link AsymmetricJwk}s with the specified
+     * {@link AsymmetricJwk#getX509Sha1Thumbprint() x5t (X.509 Certificate SHA-1 Thumbprint)}.
+     *
+     * @param thumbprint the required {@code x5t} value
+     * @return the selector for method chaining.
+     */
+    JwkSelector x509Sha1Thumbprint(byte[] thumbprint);
+
+    /**
+     * Selects only {@link AsymmetricJwk}s with the specified
+     * {@link AsymmetricJwk#getX509Sha256Thumbprint() x5t#S256 (X.509 Certificate SHA-256 Thumbprint)}.
+     *
+     * @param thumbprint the required {@code x5t#S256} value
+     * @return the selector for method chaining.
+     */
+    JwkSelector x509Sha256Thumbprint(byte[] thumbprint);
+
+    /**
+     * Selects only JWKs with the specified <a href="https://www.rfc-editor.org/rfc/rfc7638">RFC 7638</a>
+     * {@link Jwk#thumbprint(HashAlgorithm) thumbprint}, computed with the thumbprint's own
+     * {@link JwkThumbprint#getHashAlgorithm() hash algorithm}.
+     *
+     * @param thumbprint the required JWK thumbprint
+     * @return the selector for method chaining.
+     */
+    JwkSelector thumbprint(JwkThumbprint thumbprint);
+
+    /**
+     * Excludes {@link AsymmetricJwk}s with a {@link AsymmetricJwk#getPublicKeyUse() use (Public Key Use)} other
+     * than the one specified.
+     *
+     * @param use the intended public key use, for example {@code sig} or {@code enc}
+     * @return the selector for method chaining.
+     */
+    JwkSelector use(String use);
+
+    /**
+     * Excludes JWKs with {@link Jwk#getOperations() key_ops (Key Operations)} that do not include the specified
+     * operation.
+     *
+     * @param operation the intended key operation
+     * @return the selector for method chaining.
+     */
+    JwkSelector operation(KeyOperation operation);
+
+    /**
+     * Excludes JWKs with an {@link Jwk#getAlgorithm() alg (Algorithm)} other than the one specified.
+     *
+     * @param alg the intended algorithm identifier, for example {@code RS256}
+     * @return the selector for method chaining.
+     */
+    JwkSelector algorithm(String alg);
+
+    /**
+     * Returns the JWKs that match all specified criteria, in {@link JwkSet#getKeys() JWK Set} order, or an empty
+     * set if no JWK matches.
+     *
+     * @return the immutable set of matching JWKs, never {@code null}.
+     */
+    Set<Jwk<?>> get();
+}
@@ -44,4 +44,13 @@ public interface JwkSet extends Map<String, Object>, Iterable<Jwk<?>> {
      */
     Set<Jwk<?>> getKeys();
 
+    /**
+     * Returns a new {@link JwkSelector} to efficiently find the JWKs in this set that match specific criteria, such as
+     * a {@code kid} (Key ID) or X.509 certificate thumbprint, without scanning every JWK.
+     *
+     * @return a new selector for finding JWKs in this set.
+     * @since 0.12.6
+     */
+    JwkSelector select();
+
 }
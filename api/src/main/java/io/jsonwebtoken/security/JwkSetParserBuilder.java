@@ -18,6 +18,8 @@ package io.jsonwebtoken.security;
 import io.jsonwebtoken.io.Parser;
 import io.jsonwebtoken.io.ParserBuilder;
 
+import java.util.concurrent.Executor;
+
 /**
  * A builder to construct a {@link Parser} that can parse {@link JwkSet}s.
  * Example usage:
@@ -27,6 +29,7 @@ import io.jsonwebtoken.io.ParserBuilder;
  *         .json(deserializer)          // optional
  *         .operationPolicy(policy)     // optional
  *         .ignoreUnsupported(aBoolean) // optional
+ *         .executor(anExecutor)        // optional
  *         .build()
  *         .parse(jwkSetString);</pre></blockquote>
  *
@@ -54,4 +57,24 @@ public interface JwkSetParserBuilder extends ParserBuilder<JwkSet, JwkSetParserB
      * @return the builder for method chaining.
      */
     JwkSetParserBuilder ignoreUnsupported(boolean ignore);
+
+    /**
+     * Sets the {@link Executor} used to convert a parsed JWK Set's {@code keys} elements into {@link Jwk}s
+     * concurrently, or {@code null} (the default) to convert them sequentially on the parsing thread.
+     *
+     * <p>Converting a JWK may require JCA key creation, elliptic curve point validation and X.509 certificate chain
+     * processing, so JWK Sets with many keys may benefit from concurrent conversion. Regardless of the executor,
+     * the parsed {@code JwkSet} retains the original element order, and unsupported or malformed elements are
+     * reported (or {@link #ignoreUnsupported(boolean) ignored}) exactly as they would be without one: if JWKs are
+     * not ignored, the exception reported is always that of the first failing element. The parsing thread also
+     * converts any elements the executor has not yet started converting (as well as any the executor rejects), and
+     * only waits for conversions that are already running, so a JWK Set may safely be parsed from one of the
+     * executor's own threads.</p>
+     *
+     * @param executor the executor used to convert JWK Set elements concurrently, or {@code null} to convert them
+     *                 sequentially.
+     * @return the builder for method chaining.
+     * @since 0.12.6
+     */
+    JwkSetParserBuilder executor(Executor executor);
 }
@@ -83,4 +83,75 @@ class AbstractDeserializerTest {
             assertSame ex, expected.cause
         }
     }
+
+    @Test
+    void deserializeByteArrayRange() {
+        def bytes = 'xx{"hello":"世界"}yy'.getBytes('UTF-8')
+        def des = new AbstractDeserializer() {
+            @Override
+            protected Object doDeserialize(Reader reader) throws Exception {
+                return reader.text
+            }
+        }
+        assertEquals '{"hello":"世界"}', des.deserialize(bytes, 2, bytes.length - 4)
+    }
+
+    @Test
+    void deserializeByteArrayRangeNullArgument() {
+        def des = new AbstractDeserializer() {
+            @Override
+            protected Object doDeserialize(Reader reader) throws Exception {
+                return null
+            }
+        }
+        try {
+            des.deserialize((byte[]) null, 0, 0)
+            fail()
+        } catch (IllegalArgumentException expected) {
+            assertEquals 'byte array argument cannot be null.', expected.message
+        }
+    }
+
+    @Test
+    void deserializeByteArrayRangeOutOfBounds() {
+        def des = new AbstractDeserializer() {
+            @Override
+            protected Object doDeserialize(Reader reader) throws Exception {
+                return null
+            }
+        }
+        def bytes = new byte[4]
+        for (def range : [[-1, 1], [0, -1], [1, 4], [5, 0]]) {
+            try {
+                des.deserialize(bytes, range[0], range[1])
+                fail()
+            } catch (IllegalArgumentException expected) {
+                String msg = "Invalid offset ${range[0]} and length ${range[1]} for byte array with length 4."
+                assertEquals msg, expected.message
+            }
+        }
+    }
+
+    @Test
+    void deserializeByteArrayRangeException() {
+        def ex = new RuntimeException('foo')
+        def des = new AbstractDeserializer() {
+            @Override
+            protected Object doDeserialize(Reader reader) throws Exception {
+                return null
+            }
+
+            @Override
+            protected Object doDeserialize(byte[] bytes, int offset, int length) throws Exception {
+                throw ex
+            }
+        }
+        try {
+            des.deserialize(new byte[0], 0, 0)
+            fail()
+        } catch (DeserializationException expected) {
+            assertEquals 'Unable to deserialize: foo', expected.message
+            assertSame ex, expected.cause
+        }
+    }
 }
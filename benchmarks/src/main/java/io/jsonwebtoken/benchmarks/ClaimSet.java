@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Claim sets of increasing size used to measure how payload size affects throughput and allocation.
+ *
+ * <ul>
+ *     <li>{@code SMALL}: only the common registered claims, typical of a minimal access token (~200 bytes).</li>
+ *     <li>{@code MEDIUM}: registered claims plus a handful of custom string, number, boolean and array claims
+ *     (~600 bytes).</li>
+ *     <li>{@code LARGE}: medium plus nested objects and larger arrays, typical of tokens carrying authorization
+ *     data (~4 KB).</li>
+ * </ul>
+ *
+ * @since 0.12.6
+ */
+public enum ClaimSet {
+
+    SMALL(0),
+    MEDIUM(1),
+    LARGE(8);
+
+    private final Map<String, Object> claims;
+
+    ClaimSet(int groups) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("iss", "https://issuer.example.com");
+        m.put("sub", "248289761001");
+        m.put("aud", "https://api.example.com");
+        m.put("iat", new Date(1700000000000L));
+        m.put("exp", new Date(4102444800000L)); // 2100-01-01T00:00:00Z: benchmark tokens never expire
+        m.put("jti", "7e3c5c0a-4ff5-4b0d-9a4f-4f3e1f2a6d2e");
+        if (groups > 0) {
+            m.put("name", "Jane Doe");
+            m.put("email", "jane.doe@example.com");
+            m.put("email_verified", true);
+            m.put("locale", "en-US");
+            m.put("auth_time", 1700000000L);
+            m.put("scope", "openid profile email offline_access");
+            m.put("roles", Arrays.asList("user", "admin", "auditor"));
+            m.put("tenant", "acme-corp");
+        }
+        for (int i = 1; i < groups; i++) {
+            Map<String, Object> group = new LinkedHashMap<>();
+            group.put("id", "group-" + i);
+            group.put("name", "Authorization group number " + i);
+            group.put("level", i);
+            List<String> permissions = new ArrayList<>();
+            for (int j = 0; j < 8; j++) {
+                permissions.add("resource-" + i + ":action-" + j);
+            }
+            group.put("permissions", permissions);
+            m.put("group" + i, group);
+        }
+        this.claims = Collections.unmodifiableMap(m);
+    }
+
+    public Map<String, Object> claims() {
+        return this.claims;
+    }
+}
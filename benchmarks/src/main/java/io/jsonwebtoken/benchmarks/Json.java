@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.benchmarks;
+
+import io.jsonwebtoken.gson.io.GsonDeserializer;
+import io.jsonwebtoken.gson.io.GsonSerializer;
+import io.jsonwebtoken.io.Deserializer;
+import io.jsonwebtoken.io.Serializer;
+import io.jsonwebtoken.jackson.io.JacksonDeserializer;
+import io.jsonwebtoken.jackson.io.JacksonSerializer;
+import io.jsonwebtoken.orgjson.io.OrgJsonDeserializer;
+import io.jsonwebtoken.orgjson.io.OrgJsonSerializer;
+
+import java.util.Map;
+
+/**
+ * The JSON extensions that may be used to serialize and deserialize benchmarked JWTs.
+ *
+ * @since 0.12.6
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public enum Json {
+
+    JACKSON {
+        @Override
+        public Serializer<Map<String, ?>> serializer() {
+            return new JacksonSerializer<>();
+        }
+
+        @Override
+        public Deserializer<Map<String, ?>> deserializer() {
+            return new JacksonDeserializer<>();
+        }
+    },
+
+    GSON {
+        @Override
+        public Serializer<Map<String, ?>> serializer() {
+            return new GsonSerializer<>();
+        }
+
+        @Override
+        public Deserializer<Map<String, ?>> deserializer() {
+            return new GsonDeserializer<>();
+        }
+    },
+
+    ORGJSON {
+        @Override
+        public Serializer<Map<String, ?>> serializer() {
+            return new OrgJsonSerializer<>();
+        }
+
+        @Override
+        public Deserializer<Map<String, ?>> deserializer() {
+            return (Deserializer) new OrgJsonDeserializer();
+        }
+    };
+
+    public abstract Serializer<Map<String, ?>> serializer();
+
+    public abstract Deserializer<Map<String, ?>> deserializer();
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.benchmarks;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwe;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwtParserBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.AeadAlgorithm;
+import io.jsonwebtoken.security.KeyAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecretKeyAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Build/encrypt and parse/decrypt throughput for every {@link Jwts.ENC} and {@link Jwts.KEY} algorithm
+ * combination, JSON extension, claim set size and with or without compression.
+ *
+ * <p>This is a very large parameter space: most runs should narrow it with JMH's {@code -p} option, for example
+ * {@code -p enc=A256GCM -p alg=dir,ECDH-ES -p json=JACKSON}.</p>
+ *
+ * @since 0.12.6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JweBenchmark {
+
+    private static final char[] PASSWORD = "correct horse battery staple".toCharArray();
+
+    @Param({"A128CBC-HS256", "A192CBC-HS384", "A256CBC-HS512", "A128GCM", "A192GCM", "A256GCM"})
+    public String enc;
+
+    @Param({"dir", "A128KW", "A192KW", "A256KW", "A128GCMKW", "A192GCMKW", "A256GCMKW",
+            "RSA1_5", "RSA-OAEP", "RSA-OAEP-256",
+            "ECDH-ES", "ECDH-ES+A128KW", "ECDH-ES+A192KW", "ECDH-ES+A256KW",
+            "PBES2-HS256+A128KW", "PBES2-HS384+A192KW", "PBES2-HS512+A256KW"})
+    public String alg;
+
+    @Param({"JACKSON", "GSON", "ORGJSON"})
+    public Json json;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public ClaimSet claims;
+
+    @Param({"false", "true"})
+    public boolean compress;
+
+    private AeadAlgorithm encAlg;
+    @SuppressWarnings("rawtypes")
+    private KeyAlgorithm keyAlg;
+    private Key encryptionKey;
+    private JwtParser parser;
+    private String jwe;
+
+    @Setup
+    public void setUp() {
+        this.encAlg = Jwts.ENC.get().forKey(this.enc);
+        this.keyAlg = Jwts.KEY.get().forKey(this.alg);
+
+        Key decryptionKey;
+        if (this.keyAlg == Jwts.KEY.DIRECT) {
+            decryptionKey = this.encryptionKey = this.encAlg.key().build();
+        } else if (this.keyAlg instanceof SecretKeyAlgorithm) {
+            decryptionKey = this.encryptionKey = ((SecretKeyAlgorithm) this.keyAlg).key().build();
+        } else if (this.alg.startsWith("PBES2")) {
+            decryptionKey = this.encryptionKey = Keys.password(PASSWORD);
+        } else {
+            KeyPair pair = this.alg.startsWith("RSA") ?
+                    Jwts.SIG.RS256.keyPair().build() : Jwts.SIG.ES256.keyPair().build();
+            this.encryptionKey = pair.getPublic();
+            decryptionKey = pair.getPrivate();
+        }
+
+        JwtParserBuilder pb = Jwts.parser().json(this.json.deserializer());
+        if (decryptionKey instanceof PrivateKey) {
+            pb.decryptWith((PrivateKey) decryptionKey);
+        } else {
+            pb.decryptWith((SecretKey) decryptionKey);
+        }
+        this.parser = pb.build();
+        this.jwe = encrypt();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Benchmark
+    public String encrypt() {
+        JwtBuilder builder = Jwts.builder()
+                .json(this.json.serializer())
+                .claims(this.claims.claims())
+                .encryptWith(this.encryptionKey, this.keyAlg, this.encAlg);
+        if (this.compress) {
+            builder.compressWith(Jwts.ZIP.DEF);
+        }
+        return builder.compact();
+    }
+
+    @Benchmark
+    public Jwe<Claims> parse() {
+        return this.parser.parseEncryptedClaims(this.jwe);
+    }
+}
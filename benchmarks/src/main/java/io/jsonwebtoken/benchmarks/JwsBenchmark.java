@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.benchmarks;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwtParserBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.MacAlgorithm;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Build/sign and parse/verify throughput for every {@link Jwts.SIG} algorithm, JSON extension, claim set size
+ * and with or without compression.
+ *
+ * @since 0.12.6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwsBenchmark {
+
+    @Param({"HS256", "HS384", "HS512", "RS256", "RS384", "RS512", "PS256", "PS384", "PS512",
+            "ES256", "ES384", "ES512", "EdDSA"})
+    public String alg;
+
+    @Param({"JACKSON", "GSON", "ORGJSON"})
+    public Json json;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public ClaimSet claims;
+
+    @Param({"false", "true"})
+    public boolean compress;
+
+    @SuppressWarnings("rawtypes")
+    private SecureDigestAlgorithm sigAlg;
+    private Key signingKey;
+    private JwtParser parser;
+    private String jws;
+
+    @Setup
+    public void setUp() {
+        this.sigAlg = Jwts.SIG.get().forKey(this.alg);
+        JwtParserBuilder pb = Jwts.parser().json(this.json.deserializer());
+        if (this.sigAlg instanceof MacAlgorithm) {
+            SecretKey key = ((MacAlgorithm) this.sigAlg).key().build();
+            this.signingKey = key;
+            pb.verifyWith(key);
+        } else {
+            KeyPair pair = ((SignatureAlgorithm) this.sigAlg).keyPair().build();
+            this.signingKey = pair.getPrivate();
+            pb.verifyWith((PublicKey) pair.getPublic());
+        }
+        this.parser = pb.build();
+        this.jws = sign();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Benchmark
+    public String sign() {
+        JwtBuilder builder = Jwts.builder()
+                .json(this.json.serializer())
+                .claims(this.claims.claims())
+                .signWith(this.signingKey, this.sigAlg);
+        if (this.compress) {
+            builder.compressWith(Jwts.ZIP.DEF);
+        }
+        return builder.compact();
+    }
+
+    @Benchmark
+    public Jws<Claims> parse() {
+        return this.parser.parseSignedClaims(this.jws);
+    }
+}
@@ -20,6 +20,7 @@ import io.jsonwebtoken.io.AbstractDeserializer;
 import io.jsonwebtoken.lang.Assert;
 
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 
 public class GsonDeserializer<T> extends AbstractDeserializer<T> {
 
@@ -46,4 +47,14 @@ public class GsonDeserializer<T> extends AbstractDeserializer<T> {
     protected T doDeserialize(Reader reader) {
         return gson.fromJson(reader, returnType);
     }
+
+    /**
+     * Decodes the UTF-8 bytes to a single String parsed directly by Gson, avoiding {@link Reader} buffering.
+     *
+     * @since 0.12.6
+     */
+    @Override
+    protected T doDeserialize(byte[] bytes, int offset, int length) {
+        return gson.fromJson(new String(bytes, offset, length, StandardCharsets.UTF_8), returnType);
+    }
 }
@@ -91,4 +91,11 @@ class GsonDeserializerTest {
             assertSame ex, expected.cause
         }
     }
+
+    @Test
+    void testDeserializeByteArrayRange() {
+        def bytes = 'xx{"hello":"世界"}yy'.getBytes('UTF-8')
+        def expected = [hello: '世界']
+        assertEquals expected, deserializer.deserialize(bytes, 2, bytes.length - 4)
+    }
 }
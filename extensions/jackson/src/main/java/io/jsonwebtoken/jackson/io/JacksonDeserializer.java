@@ -113,11 +113,9 @@ public class JacksonDeserializer<T> extends AbstractDeserializer<T> {
      * @param objectMapper the objectMapper to modify by registering a custom type-converting
      *                     {@link com.fasterxml.jackson.databind.Module Module}
      * @param claimTypeMap The claim name-to-class map used to deserialize claims into the given type
-     * @since 0.12.4
+     * @since 0.12.6
      */
-    //TODO: Make this public on a minor release
-    //      (cannot do that on a point release as that would violate semver)
-    private JacksonDeserializer(ObjectMapper objectMapper, Map<String, Class<?>> claimTypeMap) {
+    public JacksonDeserializer(ObjectMapper objectMapper, Map<String, Class<?>> claimTypeMap) {
         this(objectMapper);
         Assert.notNull(claimTypeMap, "Claim type map cannot be null.");
         // register a new Deserializer on the ObjectMapper instance:
@@ -138,6 +136,16 @@ public class JacksonDeserializer<T> extends AbstractDeserializer<T> {
         return objectMapper.readValue(reader, returnType);
     }
 
+    /**
+     * Parses the UTF-8 bytes directly with the {@code ObjectMapper}, without an intermediate {@link Reader}.
+     *
+     * @since 0.12.6
+     */
+    @Override
+    protected T doDeserialize(byte[] bytes, int offset, int length) throws Exception {
+        return objectMapper.readValue(bytes, offset, length, returnType);
+    }
+
     /**
      * A Jackson {@link com.fasterxml.jackson.databind.JsonDeserializer JsonDeserializer}, that will convert claim
      * values to types based on {@code claimTypeMap}.
@@ -153,12 +161,15 @@ public class JacksonDeserializer<T> extends AbstractDeserializer<T> {
 
         @Override
         public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
-            // check if the current claim key is mapped, if so traverse it's value
+            // check if the current claim key is mapped, if so bind its value directly from the parser:
             String name = parser.currentName();
             if (claimTypeMap != null && name != null && claimTypeMap.containsKey(name)) {
                 Class<?> type = claimTypeMap.get(name);
-                //noinspection resource
-                return parser.readValueAsTree().traverse(parser.getCodec()).readValueAs(type);
+                // Object.class would resolve to this deserializer again for the same name, so it's read as untyped:
+                if (type != null && !Object.class.equals(type)) {
+                    // uses the context's cached deserializer for the type, without an intermediate tree:
+                    return context.readValue(parser, type);
+                }
             }
             // otherwise default to super
             return super.deserialize(parser, context);
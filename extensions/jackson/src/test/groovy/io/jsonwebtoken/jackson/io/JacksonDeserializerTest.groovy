@@ -17,7 +17,12 @@
 package io.jsonwebtoken.jackson.io
 
 import com.fasterxml.jackson.core.JsonParseException
+import com.fasterxml.jackson.core.JsonParser
+import com.fasterxml.jackson.databind.DeserializationContext
 import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer
+import com.fasterxml.jackson.databind.module.SimpleModule
+import com.fasterxml.jackson.databind.node.TreeTraversingParser
 import io.jsonwebtoken.io.DeserializationException
 import io.jsonwebtoken.io.Deserializer
 import io.jsonwebtoken.io.Encoders
@@ -241,6 +246,50 @@ class JacksonDeserializerTest {
         assertEquals(["alg": "HS256"], result)
     }
 
+    @Test
+    void testObjectMapperAndClaimTypeMapConstructor() {
+        def mapper = new ObjectMapper()
+        deserializer = new JacksonDeserializer(mapper, [custom: CustomBean])
+        assertSame mapper, deserializer.objectMapper
+        def result = deserializer.deserialize(new StringReader('{"custom": {"stringValue": "s"}, "other": "o"}'))
+        assertTrue result.custom instanceof CustomBean
+        assertEquals 's', result.custom.stringValue
+        assertEquals 'o', result.other
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testObjectMapperAndNullClaimTypeMapConstructor() {
+        new JacksonDeserializer(new ObjectMapper(), null)
+    }
+
+    @Test
+    void testMappedTypeBoundFromLiveParser() {
+        def parsers = []
+        def mapper = new ObjectMapper().registerModule(new SimpleModule().addDeserializer(CustomBean,
+                new StdDeserializer<CustomBean>(CustomBean) {
+                    @Override
+                    CustomBean deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+                        parsers.add(p)
+                        Map m = p.readValueAs(Map)
+                        return new CustomBean().setStringValue((String) m.stringValue)
+                    }
+                }))
+        deserializer = new JacksonDeserializer(mapper, [custom: CustomBean])
+        def bytes = '{"custom": {"stringValue": "s"}, "list": [{"custom": {"stringValue": "t"}}]}'.getBytes('UTF-8')
+        def result = deserializer.deserialize(bytes, 0, bytes.length)
+        assertEquals 's', result.custom.stringValue
+        assertEquals 't', result.list[0].custom.stringValue // nested members with the same name are mapped too
+        assertEquals 2, parsers.size()
+        parsers.each { assertFalse it instanceof TreeTraversingParser } // no intermediate tree
+    }
+
+    @Test
+    void testObjectClaimType() {
+        deserializer = new JacksonDeserializer([custom: Object])
+        def result = deserializer.deserialize(new StringReader('{"custom": {"a": [1, "b"]}}'))
+        assertEquals([custom: [a: [1, 'b']]], result)
+    }
+
     @Test(expected = IllegalArgumentException)
     void testNullClaimTypeMap() {
         new JacksonDeserializer((Map) null)
@@ -270,4 +319,11 @@ class JacksonDeserializerTest {
     private static String base64(String input) {
         return Encoders.BASE64.encode(input.getBytes('UTF-8'))
     }
+
+    @Test
+    void testDeserializeByteArrayRange() {
+        def bytes = 'xx{"hello":"世界"}yy'.getBytes('UTF-8')
+        def expected = [hello: '世界']
+        assertEquals expected, deserializer.deserialize(bytes, 2, bytes.length - 4)
+    }
 }
@@ -25,6 +25,7 @@ import org.json.JSONTokener;
 import java.io.CharArrayReader;
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -48,12 +49,22 @@ public class OrgJsonDeserializer extends AbstractDeserializer<Object> {
 
     @Override
     protected Object doDeserialize(Reader reader) {
-        return parse(reader);
+        return parse(this.TOKENER_FACTORY.newTokener(reader));
     }
 
-    private Object parse(Reader reader) throws JSONException {
+    /**
+     * Decodes the UTF-8 bytes to a single String for the {@link JSONTokener}, which is supported by all org.json
+     * versions (including Android), avoiding {@link Reader} buffering.
+     *
+     * @since 0.12.6
+     */
+    @Override
+    protected Object doDeserialize(byte[] bytes, int offset, int length) {
+        return parse(new JSONTokener(new String(bytes, offset, length, StandardCharsets.UTF_8)));
+    }
+
+    private Object parse(JSONTokener tokener) throws JSONException {
 
-        JSONTokener tokener = this.TOKENER_FACTORY.newTokener(reader);
         Assert.notNull(tokener, "JSONTokener cannot be null.");
 
         char c = tokener.nextClean(); //peak ahead
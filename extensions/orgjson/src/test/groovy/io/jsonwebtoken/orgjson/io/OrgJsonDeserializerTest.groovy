@@ -125,6 +125,13 @@ class OrgJsonDeserializerTest {
         assertEquals expected, value
     }
 
+    @Test
+    void testByteArrayRange() {
+        def bytes = Strings.utf8('xx{"hello": "世界", "list": [1, null]}yy')
+        def expected = [hello: '世界', list: [1, null]]
+        assertEquals expected, des.deserialize(bytes, 2, bytes.length - 4)
+    }
+
     @Test
     void testObjectWithKeyHavingNullValue() {
         def value = read('{"hello": "世界", "test": null}')
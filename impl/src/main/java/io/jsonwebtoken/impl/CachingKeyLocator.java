@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl;
+
+import io.jsonwebtoken.Clock;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JweHeader;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.impl.lang.LruCache;
+import io.jsonwebtoken.lang.Assert;
+
+import java.security.Key;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A key {@link Locator} that remembers the keys located by a delegate locator for a limited time, keyed by the
+ * header parameters that identify a key: {@code alg}, {@code enc} (JWE only), {@code kid}, {@code jku},
+ * {@code x5u}, {@code x5t} and {@code x5t#S256}.  The delegate is only invoked when no unexpired key has been
+ * located for the same parameter values.
+ *
+ * <p>Headers with embedded key material ({@code jwk} or {@code x5c}) are always passed to the delegate, as are
+ * headers for which the delegate previously returned {@code null} or threw an exception: neither outcome is
+ * remembered.</p>
+ *
+ * @since 0.12.6
+ */
+final class CachingKeyLocator implements Locator<Key> {
+
+    private static final String JWS = "JWS";
+    private static final String JWE = "JWE";
+
+    private final Locator<? extends Key> delegate;
+    private final LruCache<List<Object>, Key> keys;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    CachingKeyLocator(Locator<? extends Key> delegate, LruCache<List<Object>, Key> keys, long ttlMillis, Clock clock) {
+        this.delegate = Assert.notNull(delegate, "Delegate Locator cannot be null.");
+        this.keys = Assert.notNull(keys, "Key cache cannot be null.");
+        this.ttlMillis = Assert.gt(ttlMillis, 0L, "ttlMillis must be greater than zero.");
+        this.clock = Assert.notNull(clock, "Clock cannot be null.");
+    }
+
+    private static List<Object> fingerprint(Header header) {
+        if (header.get(DefaultProtectedHeader.JWK.getId()) != null ||
+                header.get(DefaultProtectedHeader.X5C.getId()) != null) {
+            return null; // embedded key material is not represented by the fingerprint
+        }
+        boolean jwe = header instanceof JweHeader;
+        // canonical (String) values, so equals/hashCode are well-defined:
+        return Arrays.asList(
+                jwe ? JWE : JWS,
+                header.get(DefaultHeader.ALGORITHM.getId()),
+                jwe ? header.get(DefaultJweHeader.ENCRYPTION_ALGORITHM.getId()) : null,
+                header.get(DefaultProtectedHeader.KID.getId()),
+                header.get(DefaultProtectedHeader.JKU.getId()),
+                header.get(DefaultProtectedHeader.X5U.getId()),
+                header.get(DefaultProtectedHeader.X5T.getId()),
+                header.get(DefaultProtectedHeader.X5T_S256.getId())
+        );
+    }
+
+    @Override
+    public Key locate(Header header) {
+        List<Object> fingerprint = fingerprint(header);
+        if (fingerprint == null) {
+            return this.delegate.locate(header);
+        }
+        long now = this.clock.now().getTime();
+        Key key = this.keys.get(fingerprint, now);
+        if (key == null) {
+            key = this.delegate.locate(header);
+            if (key != null) {
+                long expiresAt = now > Long.MAX_VALUE - this.ttlMillis ? Long.MAX_VALUE : now + this.ttlMillis;
+                this.keys.put(fingerprint, key, expiresAt);
+            }
+        }
+        return key;
+    }
+}
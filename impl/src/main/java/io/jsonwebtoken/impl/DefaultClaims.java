@@ -60,6 +60,23 @@ public class DefaultClaims extends ParameterMap implements Claims {
         super(PARAMS, map);
     }
 
+    private DefaultClaims(Map<String, ?> map, boolean wrap) {
+        super(PARAMS, Assert.notNull(map, "Map argument cannot be null."), false, wrap);
+    }
+
+    /**
+     * Returns immutable claims that wrap, rather than copy, the specified map whenever possible. Registered claims
+     * are converted and validated immediately, but custom claims are read directly from {@code map}, which must not
+     * be modified after calling this method.
+     *
+     * @param map the claims map to wrap, typically a freshly deserialized JSON object
+     * @return immutable claims backed by {@code map} when possible.
+     * @since 0.12.6
+     */
+    static DefaultClaims wrap(Map<String, ?> map) {
+        return new DefaultClaims(map, true);
+    }
+
     @Override
     public String getName() {
         return "JWT Claims";
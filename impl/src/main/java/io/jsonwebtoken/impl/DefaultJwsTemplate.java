@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsTemplate;
+import io.jsonwebtoken.impl.io.EncodingOutputStream;
+import io.jsonwebtoken.impl.io.NamedSerializer;
+import io.jsonwebtoken.impl.io.Streams;
+import io.jsonwebtoken.impl.lang.Function;
+import io.jsonwebtoken.impl.security.DefaultSecureRequest;
+import io.jsonwebtoken.impl.security.JcaInstancePool;
+import io.jsonwebtoken.io.CompressionAlgorithm;
+import io.jsonwebtoken.io.Encoder;
+import io.jsonwebtoken.io.Serializer;
+import io.jsonwebtoken.lang.Assert;
+import io.jsonwebtoken.lang.Collections;
+import io.jsonwebtoken.lang.Objects;
+import io.jsonwebtoken.lang.Strings;
+import io.jsonwebtoken.security.SecureRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.Key;
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable {@link JwsTemplate} created by {@link DefaultJwtBuilder#template()}. The encoded protected header and
+ * trailing separator are computed once by the builder; every {@link #compact(Map)} call appends only the encoded
+ * claims and signature.
+ *
+ * @since 0.12.6
+ */
+final class DefaultJwsTemplate implements JwsTemplate {
+
+    private final byte[] prefix; // base64url(header) + '.'
+    private final Claims claims;
+    private final Key key;
+    private final Provider provider;
+    private final SecureRandom secureRandom;
+    private final JcaInstancePool jcaPool;
+    private final Function<SecureRequest<InputStream, Key>, byte[]> signFunction;
+    private final Serializer<Map<String, ?>> serializer;
+    private final Encoder<OutputStream, OutputStream> encoder;
+    private final CompressionAlgorithm zip;
+
+    DefaultJwsTemplate(byte[] prefix, Claims claims, Key key, Provider provider, SecureRandom secureRandom,
+                       JcaInstancePool jcaPool, Function<SecureRequest<InputStream, Key>, byte[]> signFunction,
+                       Serializer<Map<String, ?>> serializer, Encoder<OutputStream, OutputStream> encoder,
+                       CompressionAlgorithm zip) {
+        this.prefix = Assert.notEmpty(prefix, "Encoded header prefix cannot be null or empty.");
+        this.claims = Assert.notNull(claims, "Claims cannot be null.");
+        this.key = Assert.notNull(key, "Key cannot be null.");
+        this.provider = provider;
+        this.secureRandom = secureRandom;
+        this.jcaPool = jcaPool;
+        this.signFunction = Assert.notNull(signFunction, "Signature function cannot be null.");
+        this.serializer = new NamedSerializer("JWS Payload", Assert.notNull(serializer, "Serializer cannot be null."));
+        this.encoder = Assert.notNull(encoder, "Encoder cannot be null.");
+        this.zip = zip;
+    }
+
+    private Claims claims(Map<String, ?> delta) {
+        if (Collections.isEmpty(delta)) {
+            return this.claims;
+        }
+        Map<String, Object> merged = new LinkedHashMap<String, Object>(this.claims);
+        merged.putAll(delta);
+        return new DefaultClaims(merged); // normalizes and validates, removing null values
+    }
+
+    @Override
+    public String compact(Map<String, ?> delta) {
+
+        Claims claims = claims(delta);
+        if (this.zip != null && claims.isEmpty()) { // the 'zip' header is already present, so must compress something
+            String msg = "Compressed JWS templates require claims.";
+            throw new IllegalStateException(msg);
+        }
+
+        final ByteArrayOutputStream jws = new ByteArrayOutputStream(this.prefix.length + 512);
+        jws.write(this.prefix, 0, this.prefix.length);
+
+        // ----- payload -----
+        if (!claims.isEmpty()) {
+            OutputStream out = encode(jws, "JWS Payload");
+            if (this.zip != null) {
+                out = this.zip.compress(out);
+            }
+            try {
+                this.serializer.serialize(claims, out);
+            } finally {
+                Objects.nullSafeClose(out);
+            }
+        }
+
+        // ----- signature -----
+        InputStream signingInput = Streams.of(jws.toByteArray());
+        SecureRequest<InputStream, Key> request =
+                new DefaultSecureRequest<>(signingInput, this.provider, this.secureRandom, this.key, this.jcaPool);
+        byte[] signature = this.signFunction.apply(request);
+
+        jws.write(DefaultJwtParser.SEPARATOR_CHAR);
+        Streams.writeAndClose(encode(jws, "JWS Signature"), signature, "Unable to write bytes");
+
+        return Strings.ascii(jws.toByteArray());
+    }
+
+    private OutputStream encode(OutputStream out, String name) {
+        out = this.encoder.encode(out);
+        return new EncodingOutputStream(out, "base64url", name);
+    }
+}
@@ -19,6 +19,7 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Header;
 import io.jsonwebtoken.JweHeader;
 import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwsTemplate;
 import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.impl.io.Base64UrlStreamEncoder;
@@ -37,6 +38,7 @@ import io.jsonwebtoken.impl.security.DefaultAeadRequest;
 import io.jsonwebtoken.impl.security.DefaultAeadResult;
 import io.jsonwebtoken.impl.security.DefaultKeyRequest;
 import io.jsonwebtoken.impl.security.DefaultSecureRequest;
+import io.jsonwebtoken.impl.security.JcaInstancePool;
 import io.jsonwebtoken.impl.security.Pbes2HsAkwAlgorithm;
 import io.jsonwebtoken.impl.security.ProviderKey;
 import io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms;
@@ -88,6 +90,7 @@ public class DefaultJwtBuilder implements JwtBuilder {
 
     protected Provider provider;
     protected SecureRandom secureRandom;
+    private JcaInstancePool jcaPool;
 
     private final DefaultBuilderHeader headerBuilder;
     private final DefaultBuilderClaims claimsBuilder;
@@ -137,6 +140,12 @@ public class DefaultJwtBuilder implements JwtBuilder {
         return this;
     }
 
+    @Override
+    public JwtBuilder poolJcaInstances() {
+        this.jcaPool = JcaInstancePool.INSTANCE;
+        return this;
+    }
+
     @Override
     public JwtBuilder serializeToJsonWith(final Serializer<Map<String, ?>> serializer) {
         return json(serializer);
@@ -238,11 +247,12 @@ public class DefaultJwtBuilder implements JwtBuilder {
         }
         this.key = key;
         //noinspection unchecked
-        this.sigAlg = (SecureDigestAlgorithm<Key, ?>) alg;
+        final SecureDigestAlgorithm<Key, ?> sigAlg = (SecureDigestAlgorithm<Key, ?>) alg;
+        this.sigAlg = sigAlg;
         this.signFunction = Functions.wrap(new Function<SecureRequest<InputStream, Key>, byte[]>() {
             @Override
             public byte[] apply(SecureRequest<InputStream, Key> request) {
-                return sigAlg.digest(request);
+                return sigAlg.digest(request); // bound to this alg, even if the builder is reconfigured later
             }
         }, SignatureException.class, "Unable to compute %s signature.", id);
         return this;
@@ -536,6 +546,45 @@ public class DefaultJwtBuilder implements JwtBuilder {
         }
     }
 
+    @Override
+    public JwsTemplate template() {
+
+        if (this.enc != null) {
+            throw new IllegalStateException("JWS templates cannot be used to encrypt JWTs.");
+        }
+        if (this.signFunction == null) {
+            throw new IllegalStateException("JWS templates require a signing key.");
+        }
+        if (!this.payload.isEmpty()) {
+            String msg = "JWS templates only support claims, 'content' cannot be specified.";
+            throw new IllegalStateException(msg);
+        }
+        if (!this.encodePayload) {
+            String msg = "Payload encoding may not be disabled for JWS templates.";
+            throw new IllegalStateException(msg);
+        }
+
+        if (this.serializer == null) { // try to find one based on the services available
+            //noinspection unchecked
+            json(Services.get(Serializer.class));
+        }
+
+        this.headerBuilder.add(DefaultHeader.ALGORITHM.getId(), sigAlg.getId());
+        if (this.compressionAlgorithm != null) {
+            this.headerBuilder.put(DefaultHeader.COMPRESSION_ALGORITHM.getId(), compressionAlgorithm.getId());
+        }
+        final JwsHeader header = Assert.isInstanceOf(JwsHeader.class, this.headerBuilder.build());
+        ByteArrayOutputStream prefix = new ByteArrayOutputStream(512);
+        encodeAndWrite("JWS Protected Header", header, prefix);
+        prefix.write(DefaultJwtParser.SEPARATOR_CHAR);
+
+        Provider keyProvider = ProviderKey.getProvider(this.key, this.provider);
+        Key key = ProviderKey.getKey(this.key);
+        return new DefaultJwsTemplate(prefix.toByteArray(), this.claimsBuilder.build(), key, keyProvider,
+                this.secureRandom, this.jcaPool, this.signFunction, this.serializer, this.encoder,
+                this.compressionAlgorithm);
+    }
+
     // automatically closes the OutputStream
     private void writeAndClose(String name, Map<String, ?> map, OutputStream out) {
         try {
@@ -611,7 +660,8 @@ public class DefaultJwtBuilder implements JwtBuilder {
 
         byte[] signature;
         try {
-            SecureRequest<InputStream, Key> request = new DefaultSecureRequest<>(signingInput, provider, secureRandom, key);
+            SecureRequest<InputStream, Key> request =
+                    new DefaultSecureRequest<>(signingInput, provider, secureRandom, key, jcaPool);
             signature = signFunction.apply(request);
 
             // now that we've calculated the signature, if using the b64 extension, and the payload is
@@ -30,6 +30,7 @@ import io.jsonwebtoken.Jwt;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtHandler;
 import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwtResult;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Locator;
 import io.jsonwebtoken.MalformedJwtException;
@@ -39,21 +40,28 @@ import io.jsonwebtoken.ProtectedHeader;
 import io.jsonwebtoken.SigningKeyResolver;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.impl.io.AbstractParser;
+import io.jsonwebtoken.impl.io.AsciiInputStream;
 import io.jsonwebtoken.impl.io.BytesInputStream;
-import io.jsonwebtoken.impl.io.CharSequenceReader;
+import io.jsonwebtoken.impl.io.DelegateStringDecoder;
+import io.jsonwebtoken.impl.io.FlatJsonObjectReader;
 import io.jsonwebtoken.impl.io.JsonObjectDeserializer;
 import io.jsonwebtoken.impl.io.Streams;
 import io.jsonwebtoken.impl.io.UncloseableInputStream;
 import io.jsonwebtoken.impl.lang.Bytes;
+import io.jsonwebtoken.impl.lang.CharSequenceView;
+import io.jsonwebtoken.impl.lang.ConcurrentTasks;
 import io.jsonwebtoken.impl.lang.Function;
+import io.jsonwebtoken.impl.lang.LruCache;
 import io.jsonwebtoken.impl.lang.RedactedSupplier;
 import io.jsonwebtoken.impl.security.DefaultDecryptAeadRequest;
 import io.jsonwebtoken.impl.security.DefaultDecryptionKeyRequest;
 import io.jsonwebtoken.impl.security.DefaultVerifySecureDigestRequest;
+import io.jsonwebtoken.impl.security.JcaInstancePool;
 import io.jsonwebtoken.impl.security.LocatingKeyResolver;
 import io.jsonwebtoken.impl.security.ProviderKey;
 import io.jsonwebtoken.io.CompressionAlgorithm;
 import io.jsonwebtoken.io.Decoder;
+import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.io.DeserializationException;
 import io.jsonwebtoken.io.Deserializer;
 import io.jsonwebtoken.lang.Assert;
@@ -79,25 +87,33 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.io.SequenceInputStream;
 import java.nio.ByteBuffer;
-import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.security.PrivateKey;
 import java.security.Provider;
 import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 @SuppressWarnings("unchecked")
 public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtParser {
 
     static final char SEPARATOR_CHAR = '.';
 
+    private static final String SEPARATOR = String.valueOf(SEPARATOR_CHAR);
+
     private static final JwtTokenizer jwtTokenizer = new JwtTokenizer();
 
+    static final int BATCH_CHUNK_SIZE = 64; // JWTs parsed per parseAll executor task
+
     static final String PRIV_KEY_VERIFY_MSG = "PrivateKeys may not be used to verify digital signatures. " +
             "PrivateKeys are used to sign, and PublicKeys are used to verify.";
 
@@ -183,6 +199,8 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
 
     private final Provider provider;
 
+    private final JcaInstancePool jcaPool;
+
     @SuppressWarnings("deprecation")
     private final SigningKeyResolver signingKeyResolver;
 
@@ -202,8 +220,13 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
 
     private final Decoder<InputStream, InputStream> decoder;
 
+    // Decodes compact token segments directly from their characters, or null if a custom stream decoder is in use:
+    private final Decoder<CharSequence, byte[]> tokenDecoder;
+
     private final Deserializer<Map<String, ?>> deserializer;
 
+    private final boolean flatHeaders; // true if flat protected headers may be read by the FlatJsonObjectReader
+
     private final ClaimsBuilder expectedClaims;
 
     private final Clock clock;
@@ -212,9 +235,16 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
 
     private final long allowedClockSkewMillis;
 
+    private final LruCache<String, VerifiedJwt> verifiedCache; // null if disabled
+
+    private final long verifiedCacheMaxAgeMillis;
+
+    private final LruCache<String, DecodedHeader> headerCache; // null if disabled
+
     //SigningKeyResolver will be removed for 1.0:
     @SuppressWarnings("deprecation")
     DefaultJwtParser(Provider provider,
+                     JcaInstancePool jcaPool,
                      SigningKeyResolver signingKeyResolver,
                      boolean unsecured,
                      boolean unsecuredDecompression,
@@ -222,15 +252,20 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
                      Clock clock,
                      Set<String> critical,
                      long allowedClockSkewMillis,
+                     LruCache<String, VerifiedJwt> verifiedCache,
+                     long verifiedCacheMaxAgeMillis,
+                     int headerCacheSize,
                      DefaultClaims expectedClaims,
                      Decoder<InputStream, InputStream> base64UrlDecoder,
                      Deserializer<Map<String, ?>> deserializer,
+                     boolean flatHeaders,
                      CompressionCodecResolver compressionCodecResolver,
                      Registry<String, CompressionAlgorithm> zipAlgs,
                      Registry<String, SecureDigestAlgorithm<?, ?>> sigAlgs,
                      Registry<String, KeyAlgorithm<?, ?>> keyAlgs,
                      Registry<String, AeadAlgorithm> encAlgs) {
         this.provider = provider;
+        this.jcaPool = jcaPool;
         this.unsecured = unsecured;
         this.unsecuredDecompression = unsecuredDecompression;
         this.signingKeyResolver = signingKeyResolver;
@@ -238,9 +273,15 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
         this.clock = Assert.notNull(clock, "Clock cannot be null.");
         this.critical = Collections.nullSafe(critical);
         this.allowedClockSkewMillis = allowedClockSkewMillis;
+        this.verifiedCache = verifiedCache;
+        this.verifiedCacheMaxAgeMillis = verifiedCacheMaxAgeMillis;
+        this.headerCache = headerCacheSize > 0 ? new LruCache<String, DecodedHeader>(headerCacheSize) : null;
         this.expectedClaims = Jwts.claims().add(expectedClaims);
         this.decoder = Assert.notNull(base64UrlDecoder, "base64UrlDecoder cannot be null.");
+        this.tokenDecoder = base64UrlDecoder instanceof DelegateStringDecoder ?
+                ((DelegateStringDecoder) base64UrlDecoder).getDelegate() : null;
         this.deserializer = Assert.notNull(deserializer, "JSON Deserializer cannot be null.");
+        this.flatHeaders = flatHeaders;
         this.sigAlgs = new IdLocator<>(DefaultHeader.ALGORITHM, sigAlgs, MISSING_JWS_ALG_MSG);
         this.keyAlgs = new IdLocator<>(DefaultHeader.ALGORITHM, keyAlgs, MISSING_JWE_ALG_MSG);
         this.encAlgs = new IdLocator<>(DefaultJweHeader.ENCRYPTION_ALGORITHM, encAlgs, MISSING_ENC_MSG);
@@ -254,7 +295,7 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
             return false;
         }
         try {
-            final TokenizedJwt tokenized = jwtTokenizer.tokenize(new CharSequenceReader(compact));
+            final TokenizedJwt tokenized = jwtTokenizer.tokenize(compact);
             return !(tokenized instanceof TokenizedJwe) && Strings.hasText(tokenized.getDigest());
         } catch (MalformedJwtException e) {
             return false;
@@ -265,20 +306,23 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
         return header != null && Strings.hasText(header.getContentType());
     }
 
-    private void verifySignature(final TokenizedJwt tokenized, final JwsHeader jwsHeader, final String alg,
+    private void verifySignature(final TokenizedJwt tokenized, final JwsHeader jwsHeader, final DecodedHeader decoded,
                                  @SuppressWarnings("deprecation") SigningKeyResolver resolver, Claims claims, Payload payload) {
 
         Assert.notNull(resolver, "SigningKeyResolver instance cannot be null.");
 
-        SecureDigestAlgorithm<?, Key> algorithm;
-        try {
-            algorithm = (SecureDigestAlgorithm<?, Key>) sigAlgs.apply(jwsHeader);
-        } catch (UnsupportedJwtException e) {
-            //For backwards compatibility.  TODO: remove this try/catch block for 1.0 and let UnsupportedJwtException propagate
-            String msg = "Unsupported signature algorithm '" + alg + "'";
-            throw new SignatureException(msg, e);
+        SecureDigestAlgorithm<?, Key> algorithm = (SecureDigestAlgorithm<?, Key>) decoded.sigAlg;
+        if (algorithm == null) {
+            try {
+                algorithm = (SecureDigestAlgorithm<?, Key>) sigAlgs.apply(jwsHeader);
+            } catch (UnsupportedJwtException e) {
+                //For backwards compatibility.  TODO: remove this try/catch block for 1.0 and let UnsupportedJwtException propagate
+                String msg = "Unsupported signature algorithm '" + decoded.alg + "'";
+                throw new SignatureException(msg, e);
+            }
+            Assert.stateNotNull(algorithm, "JWS Signature Algorithm cannot be null.");
+            decoded.sigAlg = algorithm;
         }
-        Assert.stateNotNull(algorithm, "JWS Signature Algorithm cannot be null.");
 
         //digitally signed, let's assert the signature:
         Key key;
@@ -300,31 +344,14 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
 
         final byte[] signature = decode(tokenized.getDigest(), "JWS signature");
 
-        //re-create the jwt part without the signature.  This is what is needed for signature verification:
+        // The signing input is the compact JWT up to (but not including) the last period character.  Read its
+        // ASCII bytes directly from the token characters rather than re-creating and encoding a copy:
         InputStream payloadStream = null;
         InputStream verificationInput;
         if (jwsHeader.isPayloadEncoded()) {
-            int len = tokenized.getProtected().length() + 1 + tokenized.getPayload().length();
-            CharBuffer cb = CharBuffer.allocate(len);
-            cb.put(Strings.wrap(tokenized.getProtected()));
-            cb.put(SEPARATOR_CHAR);
-            cb.put(Strings.wrap(tokenized.getPayload()));
-            cb.rewind();
-            ByteBuffer bb = StandardCharsets.US_ASCII.encode(cb);
-            bb.rewind();
-            byte[] data = new byte[bb.remaining()];
-            bb.get(data);
-            verificationInput = Streams.of(data);
+            verificationInput = new AsciiInputStream(tokenized.getProtected(), SEPARATOR, tokenized.getPayload());
         } else { // b64 extension
-            ByteBuffer headerBuf = StandardCharsets.US_ASCII.encode(Strings.wrap(tokenized.getProtected()));
-            headerBuf.rewind();
-            ByteBuffer buf = ByteBuffer.allocate(headerBuf.remaining() + 1);
-            buf.put(headerBuf);
-            buf.put((byte) SEPARATOR_CHAR);
-            buf.rewind();
-            byte[] data = new byte[buf.remaining()];
-            buf.get(data);
-            InputStream prefixStream = Streams.of(data);
+            InputStream prefixStream = new AsciiInputStream(tokenized.getProtected(), SEPARATOR);
             payloadStream = payload.toInputStream();
             // We wrap the payloadStream here in an UncloseableInputStream to prevent the SequenceInputStream from
             // closing it since we'll need to rewind/reset it if decompression is enabled
@@ -333,7 +360,7 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
 
         try {
             VerifySecureDigestRequest<Key> request =
-                    new DefaultVerifySecureDigestRequest<>(verificationInput, provider, null, key, signature);
+                    new DefaultVerifySecureDigestRequest<>(verificationInput, provider, null, key, signature, jcaPool);
             if (!algorithm.verify(request)) {
                 String msg = "JWT signature does not match locally computed signature. JWT validity cannot be " +
                         "asserted and should not be trusted.";
@@ -363,29 +390,29 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
     }
 
     private Jwt<?, ?> parse(Reader compact, Payload unencodedPayload) {
-
         Assert.notNull(compact, "Compact reader cannot be null.");
-        Assert.stateNotNull(unencodedPayload, "internal error: unencodedPayload is null.");
+        return parse((TokenizedJwt) jwtTokenizer.tokenize(compact), unencodedPayload, this.keyLocator);
+    }
 
-        final TokenizedJwt tokenized = jwtTokenizer.tokenize(compact);
-        final CharSequence base64UrlHeader = tokenized.getProtected();
-        if (!Strings.hasText(base64UrlHeader)) {
-            String msg = "Compact JWT strings MUST always have a Base64Url protected header per " +
-                    "https://tools.ietf.org/html/rfc7519#section-7.2 (steps 2-4).";
-            throw new MalformedJwtException(msg);
+    private Map<String, ?> decodeHeader(CharSequence base64UrlHeader) {
+        final byte[] headerBytes = decode(base64UrlHeader, "protected header");
+        Map<String, ?> m = this.flatHeaders ? FlatJsonObjectReader.read(headerBytes) : null;
+        if (m == null) { // not a flat header (e.g. has a 'jwk' or 'crit'), or needs the user-configured deserializer
+            m = deserialize(headerBytes, "protected header");
         }
+        return m;
+    }
 
-        // =============== Header =================
-        final byte[] headerBytes = decode(base64UrlHeader, "protected header");
-        Map<String, ?> m = deserialize(Streams.of(headerBytes), "protected header");
-        Header header;
+    private static Header createHeader(TokenizedJwt tokenized, Map<String, ?> m) {
         try {
-            header = tokenized.createHeader(m);
+            return tokenized.createHeader(m);
         } catch (Exception e) {
             String msg = "Invalid protected header: " + e.getMessage();
             throw new MalformedJwtException(msg, e);
         }
+    }
 
+    private static String getAlgorithm(TokenizedJwt tokenized, Header header) {
         // https://tools.ietf.org/html/rfc7515#section-10.7 , second-to-last bullet point, note the use of 'always':
         //
         //   *  Require that the "alg" Header Parameter be carried in the JWS
@@ -397,10 +424,72 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
             String msg = tokenized instanceof TokenizedJwe ? MISSING_JWE_ALG_MSG : MISSING_JWS_ALG_MSG;
             throw new MalformedJwtException(msg);
         }
-        final boolean unsecured = Jwts.SIG.NONE.getId().equalsIgnoreCase(alg);
+        return alg;
+    }
+
+    /**
+     * Returns an unmodifiable copy of the specified deserialized JSON value, including any nested JSON objects and
+     * arrays, so it may be shared by the headers of any number of parsed JWTs.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T immutable(T value) {
+        Object result = value;
+        if (value instanceof Map) {
+            Map<?, ?> m = (Map<?, ?>) value;
+            Map<Object, Object> copy = new LinkedHashMap<>(Collections.size(m));
+            for (Map.Entry<?, ?> entry : m.entrySet()) {
+                copy.put(entry.getKey(), immutable(entry.getValue()));
+            }
+            result = Collections.immutable(copy);
+        } else if (value instanceof Set) {
+            Set<Object> copy = new LinkedHashSet<>(Collections.size((Set<?>) value));
+            for (Object element : (Set<?>) value) {
+                copy.add(immutable(element));
+            }
+            result = Collections.immutable(copy);
+        } else if (value instanceof Collection) {
+            List<Object> copy = new ArrayList<>(Collections.size((Collection<?>) value));
+            for (Object element : (Collection<?>) value) {
+                copy.add(immutable(element));
+            }
+            result = Collections.immutable(copy);
+        }
+        return (T) result;
+    }
 
+    private Jwt<?, ?> parse(TokenizedJwt tokenized, Payload unencodedPayload, Locator<? extends Key> keyLocator) {
+
+        Assert.stateNotNull(unencodedPayload, "internal error: unencodedPayload is null.");
+
+        final CharSequence base64UrlHeader = tokenized.getProtected();
+        if (!Strings.hasText(base64UrlHeader)) {
+            String msg = "Compact JWT strings MUST always have a Base64Url protected header per " +
+                    "https://tools.ietf.org/html/rfc7519#section-7.2 (steps 2-4).";
+            throw new MalformedJwtException(msg);
+        }
+
+        // =============== Header =================
         final CharSequence base64UrlDigest = tokenized.getDigest();
         final boolean hasDigest = Strings.hasText(base64UrlDigest);
+        final boolean jwe = tokenized instanceof TokenizedJwe;
+
+        final String headerKey = this.headerCache != null ? base64UrlHeader.toString() : null;
+        DecodedHeader decoded = headerKey != null ? this.headerCache.get(headerKey) : null;
+        final boolean cached = decoded != null && decoded.isFor(jwe, hasDigest); // same text can't change JWT type
+        final Header header;
+        if (cached) { // a new Header for every JWT, only the immutable decoded values are shared:
+            header = createHeader(tokenized, decoded.values);
+        } else {
+            Map<String, ?> values = decodeHeader(base64UrlHeader);
+            if (headerKey != null) { // might be retained and shared if the JWT is verified below:
+                values = immutable(values);
+            }
+            header = createHeader(tokenized, values);
+            decoded = new DecodedHeader(values, getAlgorithm(tokenized, header), jwe, hasDigest);
+        }
+        final String alg = decoded.alg;
+        final boolean unsecured = Jwts.SIG.NONE.getId().equalsIgnoreCase(alg);
+
         if (unsecured) {
             if (tokenized instanceof TokenizedJwe) {
                 throw new MalformedJwtException(JWE_NONE_MSG);
@@ -423,7 +512,7 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
             throw new MalformedJwtException(msg);
         }
         // ----- crit assertions -----
-        if (header instanceof ProtectedHeader) {
+        if (header instanceof ProtectedHeader && !decoded.critSupported) {
             Set<String> crit = Collections.nullSafe(((ProtectedHeader) header).getCritical());
             Set<String> supportedCrit = this.critical;
             String b64Id = DefaultJwsHeader.B64.getId();
@@ -446,6 +535,8 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
                     throw new UnsupportedJwtException(msg);
                 }
             }
+            // supported by this parser regardless of any unencoded payload, so never needs to be asserted again:
+            decoded.critSupported = supportedCrit == this.critical;
         }
 
         // =============== Payload =================
@@ -527,17 +618,25 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
                 throw new MalformedJwtException(msg);
             }
 
-            String enc = jweHeader.getEncryptionAlgorithm();
-            if (!Strings.hasText(enc)) {
-                throw new MalformedJwtException(MISSING_ENC_MSG);
+            AeadAlgorithm encAlg = decoded.encAlg;
+            if (encAlg == null) {
+                String enc = jweHeader.getEncryptionAlgorithm();
+                if (!Strings.hasText(enc)) {
+                    throw new MalformedJwtException(MISSING_ENC_MSG);
+                }
+                encAlg = this.encAlgs.apply(jweHeader);
+                Assert.stateNotNull(encAlg, "JWE Encryption Algorithm cannot be null.");
+                decoded.encAlg = encAlg;
             }
-            final AeadAlgorithm encAlg = this.encAlgs.apply(jweHeader);
-            Assert.stateNotNull(encAlg, "JWE Encryption Algorithm cannot be null.");
 
-            @SuppressWarnings("rawtypes") final KeyAlgorithm keyAlg = this.keyAlgs.apply(jweHeader);
-            Assert.stateNotNull(keyAlg, "JWE Key Algorithm cannot be null.");
+            @SuppressWarnings("rawtypes") KeyAlgorithm keyAlg = decoded.keyAlg;
+            if (keyAlg == null) {
+                keyAlg = this.keyAlgs.apply(jweHeader);
+                Assert.stateNotNull(keyAlg, "JWE Key Algorithm cannot be null.");
+                decoded.keyAlg = keyAlg;
+            }
 
-            Key key = this.keyLocator.locate(jweHeader);
+            Key key = keyLocator.locate(jweHeader);
             if (key == null) {
                 String msg = "Cannot decrypt JWE payload: unable to locate key for JWE with header: " + jweHeader;
                 throw new UnsupportedJwtException(msg);
@@ -574,7 +673,7 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
             // not using a signing key resolver, so we can verify the signature before reading the payload, which is
             // always safer:
             JwsHeader jwsHeader = Assert.stateIsInstance(JwsHeader.class, header, "Not a JwsHeader. ");
-            verifySignature(tokenized, jwsHeader, alg, new LocatingKeyResolver(this.keyLocator), null, payload);
+            verifySignature(tokenized, jwsHeader, decoded, new LocatingKeyResolver(keyLocator), null, payload);
             integrityVerified = true; // no exception means signature verified
         }
 
@@ -596,7 +695,8 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
         byte[] payloadBytes = payload.getBytes();
         if (payload.isConsumable()) {
 
-            InputStream in = payload.toInputStream();
+            // payload content already in memory doesn't need to be streamed and buffered:
+            InputStream in = payload.isBytes() ? null : payload.toInputStream();
 
             if (!hasContentType(header)) {   // If there is a content type set, then the application using JJWT is expected
                 //                          to convert the byte payload themselves based on this content type
@@ -606,30 +706,37 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
                 //                          parameter is performed by the JWS application."
                 //
                 Map<String, ?> claimsMap = null;
-                try {
-                    // if deserialization fails, we'll need to rewind to convert to a byte array.  So if
-                    // mark/reset isn't possible, we'll need to buffer:
-                    if (!in.markSupported()) {
-                        in = new BufferedInputStream(in);
-                        in.mark(0);
+                if (in == null) {
+                    try {
+                        claimsMap = deserialize(payloadBytes, "claims");
+                    } catch (DeserializationException | MalformedJwtException ignored) { // not JSON, treat it as a byte[]
+                    }
+                } else {
+                    try {
+                        // if deserialization fails, we'll need to rewind to convert to a byte array.  So if
+                        // mark/reset isn't possible, we'll need to buffer:
+                        if (!in.markSupported()) {
+                            in = new BufferedInputStream(in);
+                            in.mark(0);
+                        }
+                        claimsMap = deserialize(new UncloseableInputStream(in) /* Don't close in case we need to rewind */, "claims");
+                    } catch (DeserializationException | MalformedJwtException ignored) { // not JSON, treat it as a byte[]
+//                    String msg = "Invalid claims: " + e.getMessage();
+//                    throw new MalformedJwtException(msg, e);
+                    } finally {
+                        Streams.reset(in);
                     }
-                    claimsMap = deserialize(new UncloseableInputStream(in) /* Don't close in case we need to rewind */, "claims");
-                } catch (DeserializationException | MalformedJwtException ignored) { // not JSON, treat it as a byte[]
-//                String msg = "Invalid claims: " + e.getMessage();
-//                throw new MalformedJwtException(msg, e);
-                } finally {
-                    Streams.reset(in);
                 }
                 if (claimsMap != null) {
                     try {
-                        claims = new DefaultClaims(claimsMap);
+                        claims = DefaultClaims.wrap(claimsMap); // freshly deserialized, no need to copy
                     } catch (Throwable t) {
                         String msg = "Invalid claims: " + t.getMessage();
                         throw new MalformedJwtException(msg);
                     }
                 }
             }
-            if (claims == null) {
+            if (claims == null && in != null) {
                 // consumable, but not claims, so convert to byte array:
                 payloadBytes = Streams.bytes(in, "Unable to convert payload to byte array.");
             }
@@ -652,61 +759,71 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
             // A SigningKeyResolver has been configured, and due to it's API, we have to verify the signature after
             // parsing the body.  This can be a security risk, so it needs to be removed before 1.0
             JwsHeader jwsHeader = Assert.stateIsInstance(JwsHeader.class, header, "Not a JwsHeader. ");
-            verifySignature(tokenized, jwsHeader, alg, this.signingKeyResolver, claims, payload);
+            verifySignature(tokenized, jwsHeader, decoded, this.signingKeyResolver, claims, payload);
+            integrityVerified = true;
         }
 
-        final boolean allowSkew = this.allowedClockSkewMillis > 0;
+        // Only retain headers of authentic JWTs, so unsecured or forged JWTs can't evict them:
+        if (integrityVerified && headerKey != null && !cached) {
+            this.headerCache.put(headerKey, decoded);
+        }
 
         //since 0.3:
         if (claims != null) {
+            validate(header, claims);
+        }
+
+        return jwt;
+    }
 
-            final Date now = this.clock.now();
-            long nowTime = now.getTime();
+    private void validate(Header header, Claims claims) {
 
-            // https://www.rfc-editor.org/rfc/rfc7519.html#section-4.1.4
-            // token MUST NOT be accepted on or after any specified exp time:
-            Date exp = claims.getExpiration();
-            if (exp != null) {
+        final boolean allowSkew = this.allowedClockSkewMillis > 0;
 
-                long maxTime = nowTime - this.allowedClockSkewMillis;
-                Date max = allowSkew ? new Date(maxTime) : now;
-                if (max.after(exp)) {
-                    String expVal = DateFormats.formatIso8601(exp, true);
-                    String nowVal = DateFormats.formatIso8601(now, true);
+        final Date now = this.clock.now();
+        long nowTime = now.getTime();
 
-                    long differenceMillis = nowTime - exp.getTime();
+        // https://www.rfc-editor.org/rfc/rfc7519.html#section-4.1.4
+        // token MUST NOT be accepted on or after any specified exp time:
+        Date exp = claims.getExpiration();
+        if (exp != null) {
 
-                    String msg = "JWT expired " + differenceMillis + " milliseconds ago at " + expVal + ". " +
-                            "Current time: " + nowVal + ". Allowed clock skew: " +
-                            this.allowedClockSkewMillis + " milliseconds.";
-                    throw new ExpiredJwtException(header, claims, msg);
-                }
+            long maxTime = nowTime - this.allowedClockSkewMillis;
+            Date max = allowSkew ? new Date(maxTime) : now;
+            if (max.after(exp)) {
+                String expVal = DateFormats.formatIso8601(exp, true);
+                String nowVal = DateFormats.formatIso8601(now, true);
+
+                long differenceMillis = nowTime - exp.getTime();
+
+                String msg = "JWT expired " + differenceMillis + " milliseconds ago at " + expVal + ". " +
+                        "Current time: " + nowVal + ". Allowed clock skew: " +
+                        this.allowedClockSkewMillis + " milliseconds.";
+                throw new ExpiredJwtException(header, claims, msg);
             }
+        }
 
-            // https://www.rfc-editor.org/rfc/rfc7519.html#section-4.1.5
-            // token MUST NOT be accepted before any specified nbf time:
-            Date nbf = claims.getNotBefore();
-            if (nbf != null) {
+        // https://www.rfc-editor.org/rfc/rfc7519.html#section-4.1.5
+        // token MUST NOT be accepted before any specified nbf time:
+        Date nbf = claims.getNotBefore();
+        if (nbf != null) {
 
-                long minTime = nowTime + this.allowedClockSkewMillis;
-                Date min = allowSkew ? new Date(minTime) : now;
-                if (min.before(nbf)) {
-                    String nbfVal = DateFormats.formatIso8601(nbf, true);
-                    String nowVal = DateFormats.formatIso8601(now, true);
+            long minTime = nowTime + this.allowedClockSkewMillis;
+            Date min = allowSkew ? new Date(minTime) : now;
+            if (min.before(nbf)) {
+                String nbfVal = DateFormats.formatIso8601(nbf, true);
+                String nowVal = DateFormats.formatIso8601(now, true);
 
-                    long differenceMillis = nbf.getTime() - nowTime;
+                long differenceMillis = nbf.getTime() - nowTime;
 
-                    String msg = "JWT early by " + differenceMillis + " milliseconds before " + nbfVal +
-                            ". Current time: " + nowVal + ". Allowed clock skew: " +
-                            this.allowedClockSkewMillis + " milliseconds.";
-                    throw new PrematureJwtException(header, claims, msg);
-                }
+                String msg = "JWT early by " + differenceMillis + " milliseconds before " + nbfVal +
+                        ". Current time: " + nowVal + ". Allowed clock skew: " +
+                        this.allowedClockSkewMillis + " milliseconds.";
+                throw new PrematureJwtException(header, claims, msg);
             }
-
-            validateExpectedClaims(header, claims);
         }
 
-        return jwt;
+        validateExpectedClaims(header, claims);
     }
 
     /**
@@ -766,6 +883,13 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
         }
     }
 
+    @Override
+    public Jwt<?, ?> parse(CharSequence input, int start, int end) {
+        Assert.hasText(input, "CharSequence cannot be null or empty.");
+        // tokenize the compact string directly instead of reading it via a CharSequenceReader:
+        return parse(CharSequenceView.of(input.toString(), start, end), Payload.EMPTY);
+    }
+
     @SuppressWarnings("deprecation")
     @Override
     public <T> T parse(CharSequence compact, JwtHandler<T> handler) {
@@ -773,8 +897,88 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
     }
 
     private Jwt<?, ?> parse(CharSequence compact, Payload unencodedPayload) {
+        return parse(compact, unencodedPayload, this.keyLocator);
+    }
+
+    private Jwt<?, ?> parse(CharSequence compact, Payload unencodedPayload, Locator<? extends Key> keyLocator) {
         Assert.hasText(compact, "JWT String argument cannot be null or empty.");
-        return parse(new CharSequenceReader(compact), unencodedPayload);
+
+        // a cache key can't reflect a separately-provided unencoded payload, so those are never cached:
+        final String cacheKey = this.verifiedCache != null && unencodedPayload == Payload.EMPTY ?
+                compact.toString() : null;
+        if (cacheKey != null) {
+            VerifiedJwt verified = this.verifiedCache.get(cacheKey, this.clock.now().getTime());
+            if (verified != null) { // already verified, but time-sensitive and expected claims must be re-asserted:
+                Jwt<?, ?> jwt = verified.toJwt();
+                validate(jwt.getHeader(), (Claims) jwt.getPayload());
+                return jwt;
+            }
+        }
+
+        Jwt<?, ?> jwt = parse((TokenizedJwt) jwtTokenizer.tokenize(compact), unencodedPayload, keyLocator);
+
+        if (cacheKey != null && (jwt instanceof Jws || jwt instanceof Jwe) && jwt.getPayload() instanceof Claims) {
+            long now = this.clock.now().getTime();
+            long expiresAt = now > Long.MAX_VALUE - this.verifiedCacheMaxAgeMillis ? Long.MAX_VALUE :
+                    now + this.verifiedCacheMaxAgeMillis;
+            Date exp = ((Claims) jwt.getPayload()).getExpiration();
+            if (exp != null) {
+                expiresAt = Math.min(expiresAt, exp.getTime() - this.allowedClockSkewMillis);
+            }
+            if (expiresAt > now) {
+                this.verifiedCache.put(cacheKey, new VerifiedJwt(jwt), expiresAt);
+            }
+        }
+        return jwt;
+    }
+
+    @Override
+    public List<JwtResult> parseAll(Iterable<? extends CharSequence> jwts, Executor executor) {
+        Assert.notNull(jwts, "JWTs Iterable cannot be null.");
+        Assert.notNull(executor, "Executor cannot be null.");
+
+        // group JWTs with identical protected headers so the key is located only once per group:
+        final List<CharSequence> compacts = new ArrayList<>();
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        for (CharSequence compact : jwts) {
+            String header = compact != null ? compact.toString() : Strings.EMPTY;
+            int i = header.indexOf(SEPARATOR_CHAR);
+            header = i < 0 ? header : header.substring(0, i);
+            List<Integer> group = groups.get(header);
+            if (group == null) {
+                group = new ArrayList<>();
+                groups.put(header, group);
+            }
+            group.add(compacts.size());
+            compacts.add(compact);
+        }
+
+        // split groups into chunks so that even a single large group is parsed concurrently:
+        final JwtResult[] results = new JwtResult[compacts.size()];
+        List<Runnable> tasks = new ArrayList<>();
+        for (List<Integer> group : groups.values()) {
+            final Locator<Key> locator = new GroupKeyLocator(this.keyLocator);
+            for (int i = 0; i < group.size(); i += BATCH_CHUNK_SIZE) {
+                final List<Integer> chunk = group.subList(i, Math.min(i + BATCH_CHUNK_SIZE, group.size()));
+                tasks.add(new Runnable() {
+                    @Override
+                    public void run() {
+                        for (int index : chunk) {
+                            CharSequence compact = compacts.get(index);
+                            try {
+                                results[index] = new DefaultJwtResult(compact,
+                                        parse(compact, Payload.EMPTY, locator), null);
+                            } catch (RuntimeException e) {
+                                results[index] = new DefaultJwtResult(compact, null, e);
+                            }
+                        }
+                    }
+                });
+            }
+        }
+
+        ConcurrentTasks.runAll(tasks, executor, "Interrupted while waiting for JWTs to be parsed.");
+        return Collections.immutable(Arrays.asList(results));
     }
 
     @Override
@@ -873,6 +1077,12 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
 
     protected byte[] decode(CharSequence base64UrlEncoded, String name) {
         try {
+            if (this.tokenDecoder != null) { // no need to layer streams, decode the token characters directly.
+                // Custom decoders have always received a String, so only the built-in decoder gets the token view:
+                CharSequence token = this.tokenDecoder == Decoders.BASE64URL ? base64UrlEncoded :
+                        base64UrlEncoded.toString();
+                return this.tokenDecoder.decode(token);
+            }
             InputStream decoding = this.decoder.decode(Streams.of(Strings.utf8(base64UrlEncoded)));
             return Streams.bytes(decoding, "Unable to Base64Url-decode input.");
         } catch (Throwable t) {
@@ -883,6 +1093,14 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
         }
     }
 
+    /**
+     * Deserializes already-decoded JSON object bytes, allowing the JSON library to parse UTF-8 bytes directly
+     * instead of through a character {@code Reader}.
+     */
+    protected Map<String, ?> deserialize(byte[] bytes, final String name) {
+        return new JsonObjectDeserializer(this.deserializer, name).apply(bytes);
+    }
+
     protected Map<String, ?> deserialize(InputStream in, final String name) {
         try {
             Reader reader = Streams.reader(in);
@@ -892,4 +1110,103 @@ public class DefaultJwtParser extends AbstractParser<Jwt<?, ?>> implements JwtPa
             Objects.nullSafeClose(in);
         }
     }
+
+    /**
+     * Locates a key only once for a group of JWTs that all have the same protected header, returning the same key
+     * (or {@code null}) for every JWT in the group.
+     */
+    private static final class GroupKeyLocator implements Locator<Key> {
+
+        private final Locator<? extends Key> delegate;
+        private volatile boolean located;
+        private Key key;
+
+        private GroupKeyLocator(Locator<? extends Key> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Key locate(Header header) {
+            if (!this.located) {
+                synchronized (this) {
+                    if (!this.located) {
+                        this.key = this.delegate.locate(header);
+                        this.located = true;
+                    }
+                }
+            }
+            return this.key;
+        }
+    }
+
+    /**
+     * The deeply immutable header and claims values of a verified JWS or decrypted JWE, retained by the parser's
+     * verified cache. Claims are retained in their canonical JSON form, so dates are kept as epoch seconds. Every
+     * cache hit creates a new {@code Jwt} from these values, so parsed JWTs never share mutable state, such as
+     * {@code Date} instances or nested claim collections.
+     */
+    static final class VerifiedJwt {
+
+        private final Map<String, ?> header;
+        private final Map<String, ?> claims;
+        private final String signature; // JWS only
+        private final byte[] iv; // JWE only, never exposed
+        private final byte[] tag; // JWE only, never exposed
+
+        private VerifiedJwt(Jwt<?, ?> jwt) {
+            this.header = immutable(new LinkedHashMap<>(jwt.getHeader()));
+            this.claims = immutable(new LinkedHashMap<>((Claims) jwt.getPayload()));
+            if (jwt instanceof Jwe) {
+                Jwe<?> jwe = (Jwe<?>) jwt;
+                this.signature = null;
+                this.iv = jwe.getInitializationVector();
+                this.tag = jwe.getDigest();
+            } else {
+                this.signature = ((Jws<?>) jwt).getSignature();
+                this.iv = null;
+                this.tag = null;
+            }
+        }
+
+        private Jwt<?, ?> toJwt() {
+            Claims claims = DefaultClaims.wrap(this.claims);
+            if (this.iv != null) {
+                return new DefaultJwe<>(new DefaultJweHeader(this.header), claims, this.iv, this.tag);
+            }
+            return new DefaultJws<>(new DefaultJwsHeader(this.header), claims, this.signature);
+        }
+    }
+
+    /**
+     * The protected header values decoded from a compact JWT, together with the algorithms it references and
+     * whether its {@code crit} parameter is supported, which are each resolved at most once when first needed.
+     * Instances may be retained by the parser's header cache and are shared by concurrently parsed JWTs with the
+     * same Base64URL header text, so retained values are deeply immutable.
+     */
+    private static final class DecodedHeader {
+
+        private final Map<String, ?> values;
+        private final String alg; // cleaned, never empty
+        private final boolean jwe;
+        private final boolean signed;
+        private volatile boolean critSupported;
+        private volatile SecureDigestAlgorithm<?, ?> sigAlg;
+        private volatile AeadAlgorithm encAlg;
+        private volatile KeyAlgorithm<?, ?> keyAlg;
+
+        private DecodedHeader(Map<String, ?> values, String alg, boolean jwe, boolean signed) {
+            this.values = values;
+            this.alg = alg;
+            this.jwe = jwe;
+            this.signed = signed;
+        }
+
+        /**
+         * Returns {@code true} if this header was decoded for the same type of JWT, since the type of header
+         * created for a given header text depends on the JWT's other segments.
+         */
+        private boolean isFor(boolean jwe, boolean signed) {
+            return this.jwe == jwe && this.signed == signed;
+        }
+    }
 }
@@ -24,11 +24,14 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Locator;
 import io.jsonwebtoken.SigningKeyResolver;
 import io.jsonwebtoken.impl.io.DelegateStringDecoder;
+import io.jsonwebtoken.impl.io.FlatJsonObjectReader;
 import io.jsonwebtoken.impl.io.StandardCompressionAlgorithms;
 import io.jsonwebtoken.impl.lang.DefaultNestedCollection;
 import io.jsonwebtoken.impl.lang.IdRegistry;
+import io.jsonwebtoken.impl.lang.LruCache;
 import io.jsonwebtoken.impl.lang.Services;
 import io.jsonwebtoken.impl.security.ConstantKeyLocator;
+import io.jsonwebtoken.impl.security.JcaInstancePool;
 import io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms;
 import io.jsonwebtoken.impl.security.StandardKeyAlgorithms;
 import io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms;
@@ -53,6 +56,7 @@ import java.security.PrivateKey;
 import java.security.Provider;
 import java.security.PublicKey;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -75,6 +79,20 @@ public class DefaultJwtParserBuilder implements JwtParserBuilder {
 
     private Provider provider;
 
+    private boolean poolJcaInstances = false;
+
+    private int macKeyCacheSize = 0;
+
+    private int headerCacheSize = 0;
+
+    private int verifiedCacheSize = 0;
+
+    private long verifiedCacheMaxAgeMillis = 0;
+
+    private int locatedKeyCacheSize = 0;
+
+    private long locatedKeyCacheTtlMillis = 0;
+
     private boolean unsecured = false;
 
     private boolean unsecuredDecompression = false;
@@ -129,6 +147,46 @@ public class DefaultJwtParserBuilder implements JwtParserBuilder {
         return this;
     }
 
+    @Override
+    public JwtParserBuilder poolJcaInstances() {
+        this.poolJcaInstances = true;
+        return this;
+    }
+
+    @Override
+    public JwtParserBuilder macKeyCacheSize(int size) throws IllegalArgumentException {
+        Assert.isTrue(size >= 0, "macKeyCacheSize cannot be negative.");
+        this.macKeyCacheSize = size;
+        return this;
+    }
+
+    @Override
+    public JwtParserBuilder headerCacheSize(int size) throws IllegalArgumentException {
+        Assert.isTrue(size >= 0, "headerCacheSize cannot be negative.");
+        this.headerCacheSize = size;
+        return this;
+    }
+
+    @Override
+    public JwtParserBuilder cacheVerified(int maxEntries, long maxAgeSeconds) throws IllegalArgumentException {
+        Assert.gt(maxEntries, 0, "maxEntries must be greater than zero.");
+        Assert.gt(maxAgeSeconds, 0L, "maxAgeSeconds must be greater than zero.");
+        this.verifiedCacheSize = maxEntries;
+        this.verifiedCacheMaxAgeMillis = maxAgeSeconds > Long.MAX_VALUE / MILLISECONDS_PER_SECOND ? Long.MAX_VALUE :
+                maxAgeSeconds * MILLISECONDS_PER_SECOND;
+        return this;
+    }
+
+    @Override
+    public JwtParserBuilder cacheLocatedKeys(int maxEntries, long ttlSeconds) throws IllegalArgumentException {
+        Assert.gt(maxEntries, 0, "maxEntries must be greater than zero.");
+        Assert.gt(ttlSeconds, 0L, "ttlSeconds must be greater than zero.");
+        this.locatedKeyCacheSize = maxEntries;
+        this.locatedKeyCacheTtlMillis = ttlSeconds > Long.MAX_VALUE / MILLISECONDS_PER_SECOND ? Long.MAX_VALUE :
+                ttlSeconds * MILLISECONDS_PER_SECOND;
+        return this;
+    }
+
     @Override
     public JwtParserBuilder deserializeJsonWith(Deserializer<Map<String, ?>> deserializer) {
         return json(deserializer);
@@ -363,9 +421,15 @@ public class DefaultJwtParserBuilder implements JwtParserBuilder {
     @Override
     public JwtParser build() {
 
-        if (this.deserializer == null) {
+        // user configured default, don't overwrite to ensure further build() calls work as expected:
+        Deserializer<Map<String, ?>> deserializer = this.deserializer;
+        // Only if there is no user configured deserializer (which might treat header members specially) may flat
+        // protected headers be read without it, and only if the discovered one would produce the same value types:
+        boolean flatHeaders = false;
+        if (deserializer == null) {
             //noinspection unchecked
-            json(Services.get(Deserializer.class));
+            deserializer = Assert.notNull(Services.get(Deserializer.class), "JSON Deserializer cannot be null.");
+            flatHeaders = FlatJsonObjectReader.isConsistentWith(deserializer);
         }
         if (this.signingKeyResolver != null && this.signatureVerificationKey != null) {
             String msg = "Both a 'signingKeyResolver and a 'verifyWith' key cannot be configured. " +
@@ -388,6 +452,9 @@ public class DefaultJwtParserBuilder implements JwtParserBuilder {
         Locator<? extends Key> keyLocator = this.keyLocator; // user configured default, don't overwrite to ensure further build() calls work as expected
         if (keyLocator == null) {
             keyLocator = new ConstantKeyLocator(this.signatureVerificationKey, this.decryptionKey);
+        } else if (this.locatedKeyCacheSize > 0) { // located keys are specific to each parser:
+            keyLocator = new CachingKeyLocator(keyLocator, new LruCache<List<Object>, Key>(this.locatedKeyCacheSize),
+                    this.locatedKeyCacheTtlMillis, this.clock);
         }
 
         if (!unsecured && unsecuredDecompression) {
@@ -407,8 +474,20 @@ public class DefaultJwtParserBuilder implements JwtParserBuilder {
 
         final DefaultClaims expClaims = (DefaultClaims) this.expectedClaims.build();
 
+        JcaInstancePool jcaPool = null;
+        if (this.macKeyCacheSize > 0) { // primed MACs are specific to each parser:
+            jcaPool = new JcaInstancePool(this.poolJcaInstances, this.macKeyCacheSize);
+        } else if (this.poolJcaInstances) {
+            jcaPool = JcaInstancePool.INSTANCE;
+        }
+
+        // verified results are specific to each parser's keys and configuration:
+        LruCache<String, DefaultJwtParser.VerifiedJwt> verifiedCache = this.verifiedCacheSize > 0 ?
+                new LruCache<String, DefaultJwtParser.VerifiedJwt>(this.verifiedCacheSize) : null;
+
         return new DefaultJwtParser(
                 provider,
+                jcaPool,
                 signingKeyResolver,
                 unsecured,
                 unsecuredDecompression,
@@ -416,9 +495,13 @@ public class DefaultJwtParserBuilder implements JwtParserBuilder {
                 clock,
                 critical,
                 allowedClockSkewMillis,
+                verifiedCache,
+                verifiedCacheMaxAgeMillis,
+                headerCacheSize,
                 expClaims,
                 decoder,
                 deserializer,
+                flatHeaders,
                 compressionCodecResolver,
                 zipAlgs,
                 sigAlgs,
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl;
+
+import io.jsonwebtoken.Jwt;
+import io.jsonwebtoken.JwtResult;
+
+/**
+ * @since 0.12.6
+ */
+final class DefaultJwtResult implements JwtResult {
+
+    private final CharSequence compact;
+    private final Jwt<?, ?> jwt;
+    private final RuntimeException exception;
+
+    DefaultJwtResult(CharSequence compact, Jwt<?, ?> jwt, RuntimeException exception) {
+        this.compact = compact;
+        this.jwt = jwt;
+        this.exception = exception;
+    }
+
+    @Override
+    public CharSequence getCompact() {
+        return this.compact;
+    }
+
+    @Override
+    public Jwt<?, ?> getJwt() {
+        return this.jwt;
+    }
+
+    @Override
+    public RuntimeException getException() {
+        return this.exception;
+    }
+
+    @Override
+    public String toString() {
+        return this.exception != null ? "JwtResult{exception=" + this.exception + "}" :
+                "JwtResult{jwt=" + this.jwt + "}";
+    }
+}
@@ -17,6 +17,7 @@ package io.jsonwebtoken.impl;
 
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.impl.io.Streams;
+import io.jsonwebtoken.impl.lang.CharSequenceView;
 import io.jsonwebtoken.lang.Assert;
 import io.jsonwebtoken.lang.Strings;
 
@@ -30,6 +31,8 @@ public class JwtTokenizer {
     private static final String DELIM_ERR_MSG_PREFIX = "Invalid compact JWT string: Compact JWSs must contain " +
             "exactly 2 period characters, and compact JWEs must contain exactly 4.  Found: ";
 
+    private static final String WHITESPACE_ERR_MSG = "Compact JWT strings may not contain whitespace.";
+
     private static int read(Reader r, char[] buf) {
         try {
             return r.read(buf);
@@ -63,8 +66,7 @@ public class JwtTokenizer {
                 char c = buf[i];
 
                 if (Character.isWhitespace(c)) {
-                    String msg = "Compact JWT strings may not contain whitespace.";
-                    throw new MalformedJwtException(msg);
+                    throw new MalformedJwtException(WHITESPACE_ERR_MSG);
                 }
 
                 if (c == DELIMITER) {
@@ -112,4 +114,57 @@ public class JwtTokenizer {
 
         return (T) new DefaultTokenizedJwe(protectedHeader, body, digest, encryptedKey, iv);
     }
+
+    /**
+     * Tokenizes the specified compact JWT in a single pass without buffering or copying: each returned token is a
+     * {@link CharSequenceView view} of the relevant range of the compact string.
+     *
+     * @param compact the compact JWT to tokenize
+     * @param <T>     the type of tokenized JWT
+     * @return the tokenized JWT
+     * @throws MalformedJwtException if the compact JWT contains whitespace or an invalid number of delimiters.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends TokenizedJwt> T tokenize(CharSequence compact) throws MalformedJwtException {
+
+        Assert.notNull(compact, "Compact JWT CharSequence cannot be null.");
+
+        // Views are only created over an immutable String so tokens can't change after they've been validated.
+        // This doesn't copy if the argument is already a String (the most common case):
+        final String s = compact.toString();
+        final int len = s.length();
+
+        final int[] delimiters = new int[4];
+        int delimiterCount = 0;
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            if (c == DELIMITER) {
+                if (delimiterCount < delimiters.length) {
+                    delimiters[delimiterCount] = i;
+                }
+                delimiterCount++;
+            } else if (Character.isWhitespace(c)) {
+                throw new MalformedJwtException(WHITESPACE_ERR_MSG);
+            }
+        }
+
+        if (delimiterCount != 2 && delimiterCount != 4) {
+            String msg = DELIM_ERR_MSG_PREFIX + delimiterCount;
+            throw new MalformedJwtException(msg);
+        }
+
+        int last = delimiters[delimiterCount - 1];
+        CharSequence protectedHeader = CharSequenceView.of(s, 0, delimiters[0]);
+        CharSequence digest = CharSequenceView.of(s, last + 1, len);
+
+        if (delimiterCount == 2) {
+            CharSequence body = CharSequenceView.of(s, delimiters[0] + 1, last);
+            return (T) new DefaultTokenizedJwt(protectedHeader, body, digest);
+        }
+
+        CharSequence encryptedKey = CharSequenceView.of(s, delimiters[0] + 1, delimiters[1]);
+        CharSequence iv = CharSequenceView.of(s, delimiters[1] + 1, delimiters[2]);
+        CharSequence body = CharSequenceView.of(s, delimiters[2] + 1, last);
+        return (T) new DefaultTokenizedJwe(protectedHeader, body, digest, encryptedKey, iv);
+    }
 }
@@ -26,6 +26,7 @@ import io.jsonwebtoken.lang.Objects;
 import io.jsonwebtoken.lang.Registry;
 import io.jsonwebtoken.lang.Strings;
 
+import java.util.AbstractMap;
 import java.util.AbstractSet;
 import java.util.Collection;
 import java.util.Iterator;
@@ -62,18 +63,69 @@ public class ParameterMap implements Map<String, Object>, ParameterReadable, Nam
     }
 
     public ParameterMap(Registry<String, ? extends Parameter<?>> registry, Map<String, ?> values, boolean mutable) {
+        this(registry, values, mutable, false);
+    }
+
+    /**
+     * Creates a new instance, optionally <em>wrapping</em> rather than copying the specified {@code values} when
+     * the instance is immutable.
+     *
+     * <p>When wrapping, only the members with a registered {@link Parameter} are converted (and validated)
+     * immediately; every other member is read directly from {@code values} without being copied. This is only
+     * possible when {@code values} contains exactly what a copy would contain - no {@code null} or empty
+     * registered values and no member names requiring {@link Strings#clean(CharSequence) cleaning} - otherwise
+     * {@code values} is copied as usual. A wrapped map must never be modified after being passed to this
+     * constructor.</p>
+     *
+     * @param registry registry of idiomatic parameters relevant for the map values
+     * @param values   map values
+     * @param mutable  whether the instance may be modified after construction
+     * @param wrap     whether {@code values} may be wrapped instead of copied if {@code mutable} is {@code false}
+     * @since 0.12.6
+     */
+    protected ParameterMap(Registry<String, ? extends Parameter<?>> registry, Map<String, ?> values,
+                           boolean mutable, boolean wrap) {
         Assert.notNull(registry, "Parameter registry cannot be null.");
         Assert.notEmpty(registry.values(), "Parameter registry cannot be empty.");
         this.PARAMS = registry;
-        this.values = new LinkedHashMap<>();
         this.idiomaticValues = new LinkedHashMap<>();
-        if (!Collections.isEmpty(values)) {
-            putAll(values);
+        if (wrap && !mutable && isWrappable(registry, values)) {
+            this.values = new WrappedMap(values);
+            for (Parameter<?> param : registry.values()) {
+                Object value = values.get(param.getId());
+                if (value != null) {
+                    apply(param, value);
+                }
+            }
+        } else {
+            this.values = new LinkedHashMap<>();
+            if (!Collections.isEmpty(values)) {
+                putAll(values);
+            }
         }
         this.mutable = mutable;
         this.initialized = true;
     }
 
+    private static boolean isWrappable(Registry<String, ? extends Parameter<?>> registry, Map<String, ?> values) {
+        if (values == null) {
+            return false;
+        }
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            String name = entry.getKey();
+            Object value = entry.getValue();
+            if (value == null || !isClean(name) || (registry.containsKey(name) && Objects.isEmpty(value))) {
+                return false; // put() would clean, skip or remove this member, so the map must be copied
+            }
+        }
+        return true;
+    }
+
+    private static boolean isClean(String name) {
+        return Strings.hasLength(name) && !Character.isWhitespace(name.charAt(0)) &&
+                !Character.isWhitespace(name.charAt(name.length() - 1));
+    }
+
     private void assertMutable() {
         if (initialized && !mutable) {
             String msg = getName() + " instance is immutable and may not be modified.";
@@ -333,4 +385,72 @@ public class ParameterMap implements Map<String, Object>, ParameterReadable, Nam
         }
     }
 
+    /**
+     * Read-only view of a wrapped source map, overlaid with the canonical values of any registered parameters.
+     * The source map's iteration order is retained.
+     */
+    private static final class WrappedMap extends AbstractMap<String, Object> {
+
+        private final Map<String, ?> source;
+        private final Map<String, Object> canonical = new LinkedHashMap<>();
+
+        private WrappedMap(Map<String, ?> source) {
+            this.source = source;
+        }
+
+        @Override
+        public int size() {
+            return this.source.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return this.source.containsKey(key);
+        }
+
+        @Override
+        public Object get(Object key) {
+            Object value = this.canonical.get(key);
+            return value != null ? value : this.source.get(key);
+        }
+
+        @Override
+        public Object put(String key, Object value) { // only called during ParameterMap construction
+            return this.canonical.put(key, value);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public int size() {
+                    return WrappedMap.this.source.size();
+                }
+
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    final Iterator<? extends Entry<String, ?>> i = WrappedMap.this.source.entrySet().iterator();
+                    return new Iterator<Entry<String, Object>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return i.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            Entry<String, ?> entry = i.next();
+                            String key = entry.getKey();
+                            Object value = WrappedMap.this.canonical.get(key);
+                            return new SimpleImmutableEntry<>(key, value != null ? value : entry.getValue());
+                        }
+
+                        @Override
+                        public void remove() {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                }
+            };
+        }
+    }
 }
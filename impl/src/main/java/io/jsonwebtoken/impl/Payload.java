@@ -37,6 +37,7 @@ class Payload {
     private final Claims claims;
     private final InputStream inputStream;
     private final boolean inputStreamEmpty;
+    private final boolean bytesOnly; // true if the InputStream is only a view of the byte array
     private final String contentType;
     private CompressionAlgorithm zip;
     private boolean claimsExpected;
@@ -67,7 +68,8 @@ class Payload {
             data = Strings.utf8(this.string);
         }
         this.bytes = data;
-        if (in == null && !Bytes.isEmpty(this.bytes)) {
+        this.bytesOnly = in == null && !Bytes.isEmpty(this.bytes);
+        if (this.bytesOnly) {
             in = Streams.of(data);
         }
         this.inputStreamEmpty = in == null;
@@ -140,6 +142,16 @@ class Payload {
         return payload;
     }
 
+    /**
+     * Returns {@code true} if the payload content is fully available via {@link #getBytes()}, i.e. the payload
+     * {@code InputStream} (if any) is only a view of that byte array, {@code false} otherwise.
+     *
+     * @return {@code true} if the payload content is fully available via {@link #getBytes()}, {@code false} otherwise.
+     */
+    boolean isBytes() {
+        return this.bytesOnly;
+    }
+
     public byte[] getBytes() {
         return this.bytes;
     }
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.io;
+
+import io.jsonwebtoken.lang.Assert;
+
+import java.io.InputStream;
+
+/**
+ * {@link InputStream} that reads the US-ASCII encoding of one or more concatenated {@link CharSequence}s directly
+ * from their characters, without first encoding them into an intermediate {@code byte[]} or {@code ByteBuffer}.
+ *
+ * <p>Output is identical to {@link java.nio.charset.StandardCharsets#US_ASCII US_ASCII} encoding of the
+ * concatenated sequences: characters outside the US-ASCII range (including a complete surrogate pair) are each
+ * read as a single {@code '?'} replacement byte.</p>
+ *
+ * @since 0.12.6
+ */
+public final class AsciiInputStream extends InputStream {
+
+    private static final int REPLACEMENT = '?';
+
+    private final CharSequence[] seqs;
+    private int seqIndex;
+    private int charIndex;
+
+    public AsciiInputStream(CharSequence... seqs) {
+        Assert.notNull(seqs, "CharSequence array cannot be null.");
+        for (CharSequence seq : seqs) {
+            Assert.notNull(seq, "CharSequence elements cannot be null.");
+        }
+        this.seqs = seqs;
+    }
+
+    /**
+     * Returns the US-ASCII byte of the next character, or {@link Streams#EOF} if all sequences have been read.
+     */
+    private int next() {
+        while (this.seqIndex < this.seqs.length) {
+            CharSequence seq = this.seqs[this.seqIndex];
+            int seqLen = seq.length();
+            if (this.charIndex < seqLen) {
+                int c = seq.charAt(this.charIndex++);
+                if (c >= 0x80) {
+                    if (Character.isHighSurrogate((char) c) && this.charIndex < seqLen &&
+                            Character.isLowSurrogate(seq.charAt(this.charIndex))) {
+                        this.charIndex++; // a surrogate pair is a single (unmappable) character
+                    }
+                    c = REPLACEMENT;
+                }
+                return c;
+            }
+            this.seqIndex++;
+            this.charIndex = 0;
+        }
+        return Streams.EOF;
+    }
+
+    @Override
+    public int read() {
+        return next();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        Assert.notNull(b, "byte array cannot be null.");
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        int count = 0;
+        int c;
+        while (count < len && (c = next()) != Streams.EOF) {
+            b[off + count++] = (byte) c;
+        }
+        return count == 0 ? Streams.EOF : count;
+    }
+}
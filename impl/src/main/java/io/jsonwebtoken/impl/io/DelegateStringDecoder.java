@@ -32,6 +32,10 @@ public class DelegateStringDecoder implements Decoder<InputStream, InputStream>
         this.delegate = Assert.notNull(delegate, "delegate cannot be null.");
     }
 
+    public Decoder<CharSequence, byte[]> getDelegate() {
+        return this.delegate;
+    }
+
     @Override
     public InputStream decode(InputStream in) throws DecodingException {
         try {
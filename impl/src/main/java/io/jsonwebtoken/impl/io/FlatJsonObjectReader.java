@@ -0,0 +1,280 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.io;
+
+import io.jsonwebtoken.io.Deserializer;
+import io.jsonwebtoken.lang.Collections;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Minimal, strict reader for small <em>flat</em> JSON objects, such as the vast majority of JWT protected headers,
+ * for example: <code>{"alg":"RS256","kid":"abc","typ":"JWT"}</code>.
+ *
+ * <p>Only ASCII JSON objects whose member values are strings, integers that fit in a {@code long}, booleans or
+ * {@code null} are supported. Strings are returned as {@code String}s, integers as {@code Integer}s if they fit in an
+ * {@code int} or {@code Long}s otherwise (as Jackson and org.json do), booleans as {@code Boolean}s.</p>
+ *
+ * <p>Anything else - nested objects or arrays (e.g. {@code jwk}, {@code crit} or {@code x5c}), fractional or
+ * exponent numbers, non-ASCII bytes, duplicate member names, trailing content, or any malformed JSON at all - results
+ * in a {@code null} return value instead of an exception, indicating that the caller must use a complete JSON
+ * {@code Deserializer} instead. That deserializer will then either parse the JSON or report the error exactly as it
+ * would have without this reader.</p>
+ *
+ * @since 0.12.6
+ */
+public final class FlatJsonObjectReader {
+
+    private static final Object UNSUPPORTED = new Object(); // sentinel, since null is a valid JSON value
+
+    // Exact class names of Deserializers known to produce the same value types as this reader. Others (e.g. Gson,
+    // which produces Doubles for all numbers) or subclasses of these may represent values differently:
+    private static final Set<String> CONSISTENT_DESERIALIZERS = Collections.setOf(
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer",
+            "io.jsonwebtoken.orgjson.io.OrgJsonDeserializer");
+
+    private static final int MAX_LONG_DIGITS = 18; // any 18 digit decimal number always fits in a long
+
+    private final byte[] json;
+    private int pos;
+
+    private FlatJsonObjectReader(byte[] json) {
+        this.json = json;
+    }
+
+    /**
+     * Returns the flat JSON object represented by the specified UTF-8 bytes, or {@code null} if the bytes are not a
+     * flat JSON object supported by this reader.
+     *
+     * @param json the UTF-8 encoded JSON
+     * @return the flat JSON object represented by the specified UTF-8 bytes, or {@code null} if the bytes are not a
+     * flat JSON object supported by this reader.
+     */
+    public static Map<String, Object> read(byte[] json) {
+        return json != null ? new FlatJsonObjectReader(json).object() : null;
+    }
+
+    /**
+     * Returns {@code true} if the specified deserializer is known to produce the same value types as this reader for
+     * the flat JSON objects it supports, such that the two may be used interchangeably, {@code false} otherwise.
+     *
+     * @param deserializer the JSON deserializer to check, may be {@code null}
+     * @return {@code true} if the specified deserializer is known to produce the same value types as this reader,
+     * {@code false} otherwise.
+     */
+    public static boolean isConsistentWith(Deserializer<?> deserializer) {
+        return deserializer != null && CONSISTENT_DESERIALIZERS.contains(deserializer.getClass().getName());
+    }
+
+    private Map<String, Object> object() {
+        if (!consume('{')) {
+            return null;
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        if (consume('}')) {
+            return end(map);
+        }
+        do {
+            if (!consume('"')) {
+                return null;
+            }
+            String name = string();
+            if (name == null || map.containsKey(name) || !consume(':')) {
+                return null; // includes duplicates: let the JSON Deserializer decide how to handle them
+            }
+            Object value = value();
+            if (value == UNSUPPORTED) {
+                return null;
+            }
+            map.put(name, value);
+        } while (consume(','));
+        return consume('}') ? end(map) : null;
+    }
+
+    private Map<String, Object> end(Map<String, Object> map) {
+        skipWhitespace();
+        return this.pos == this.json.length ? map : null; // no trailing content
+    }
+
+    private void skipWhitespace() {
+        while (this.pos < this.json.length) {
+            byte b = this.json[this.pos];
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                return;
+            }
+            this.pos++;
+        }
+    }
+
+    /**
+     * Skips any whitespace, then consumes the specified character if it is next.
+     */
+    private boolean consume(char c) {
+        skipWhitespace();
+        if (this.pos < this.json.length && this.json[this.pos] == c) {
+            this.pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean consumeLiteral(String literal) {
+        int end = this.pos + literal.length();
+        if (end > this.json.length) {
+            return false;
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (this.json[this.pos + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        this.pos = end;
+        return true;
+    }
+
+    private Object value() {
+        skipWhitespace();
+        if (this.pos >= this.json.length) {
+            return UNSUPPORTED;
+        }
+        byte b = this.json[this.pos];
+        switch (b) {
+            case '"':
+                this.pos++;
+                String s = string();
+                return s != null ? s : UNSUPPORTED;
+            case 't':
+                return consumeLiteral("true") ? Boolean.TRUE : UNSUPPORTED;
+            case 'f':
+                return consumeLiteral("false") ? Boolean.FALSE : UNSUPPORTED;
+            case 'n':
+                return consumeLiteral("null") ? null : UNSUPPORTED;
+            default:
+                return b == '-' || (b >= '0' && b <= '9') ? integer() : UNSUPPORTED; // includes nested { and [
+        }
+    }
+
+    private Object integer() {
+        boolean negative = this.json[this.pos] == '-';
+        if (negative) {
+            this.pos++;
+        }
+        int start = this.pos;
+        long value = 0;
+        while (this.pos < this.json.length && this.json[this.pos] >= '0' && this.json[this.pos] <= '9') {
+            value = value * 10 + (this.json[this.pos] - '0');
+            this.pos++;
+            if (this.pos - start > MAX_LONG_DIGITS) {
+                return UNSUPPORTED; // let the JSON Deserializer choose a big number type
+            }
+        }
+        int digits = this.pos - start;
+        if (digits == 0 || (digits > 1 && this.json[start] == '0')) {
+            return UNSUPPORTED; // invalid JSON number
+        }
+        if (this.pos < this.json.length) {
+            byte b = this.json[this.pos];
+            if (b == '.' || b == 'e' || b == 'E') {
+                return UNSUPPORTED; // not an integer, let the JSON Deserializer choose a decimal number type
+            }
+        }
+        value = negative ? -value : value;
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return (int) value;
+        }
+        return value;
+    }
+
+    /**
+     * Reads the remainder of a JSON string after its opening quote, returning {@code null} if it is not a valid
+     * JSON string or contains non-ASCII bytes.
+     */
+    private String string() {
+        final int start = this.pos;
+        StringBuilder sb = null; // only needed if there are escape sequences
+        while (this.pos < this.json.length) {
+            byte b = this.json[this.pos++];
+            if (b == '"') {
+                if (sb == null) {
+                    return new String(this.json, start, this.pos - 1 - start, StandardCharsets.US_ASCII);
+                }
+                return sb.toString();
+            }
+            if (b < 0x20) { // negative values are non-ASCII UTF-8 bytes, the rest are illegal control characters
+                return null;
+            }
+            if (b == '\\') {
+                if (sb == null) {
+                    sb = new StringBuilder(this.json.length - start);
+                    sb.append(new String(this.json, start, this.pos - 1 - start, StandardCharsets.US_ASCII));
+                }
+                int c = escape();
+                if (c < 0) {
+                    return null;
+                }
+                sb.append((char) c);
+            } else if (sb != null) {
+                sb.append((char) b);
+            }
+        }
+        return null; // unterminated
+    }
+
+    /**
+     * Reads the remainder of an escape sequence after its backslash, returning the escaped character or
+     * {@code -1} if the escape sequence is invalid.
+     */
+    private int escape() {
+        if (this.pos >= this.json.length) {
+            return -1;
+        }
+        byte b = this.json[this.pos++];
+        switch (b) {
+            case '"':
+            case '\\':
+            case '/':
+                return b;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                if (this.pos + 4 > this.json.length) {
+                    return -1;
+                }
+                int c = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(this.json[this.pos++], 16);
+                    if (digit < 0) {
+                        return -1;
+                    }
+                    c = (c << 4) | digit;
+                }
+                return c;
+            default:
+                return -1;
+        }
+    }
+}
@@ -16,7 +16,9 @@
 package io.jsonwebtoken.impl.io;
 
 import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.impl.lang.CheckedSupplier;
 import io.jsonwebtoken.impl.lang.Function;
+import io.jsonwebtoken.io.AbstractDeserializer;
 import io.jsonwebtoken.io.DeserializationException;
 import io.jsonwebtoken.io.Deserializer;
 import io.jsonwebtoken.lang.Assert;
@@ -45,11 +47,43 @@ public class JsonObjectDeserializer implements Function<Reader, Map<String, ?>>
     }
 
     @Override
-    public Map<String, ?> apply(Reader in) {
+    public Map<String, ?> apply(final Reader in) {
         Assert.notNull(in, "InputStream argument cannot be null.");
+        return toMap(new CheckedSupplier<Object>() {
+            @Override
+            public Object get() {
+                return deserializer.deserialize(in);
+            }
+        });
+    }
+
+    /**
+     * Deserializes the specified UTF-8 encoded JSON object bytes. If the wrapped deserializer is an
+     * {@link AbstractDeserializer}, the bytes are given to it directly, otherwise they are read via a
+     * {@link Reader}.
+     *
+     * @param bytes the UTF-8 encoded JSON object
+     * @return the deserialized JSON object
+     * @since 0.12.6
+     */
+    public Map<String, ?> apply(final byte[] bytes) {
+        Assert.notNull(bytes, "byte array argument cannot be null.");
+        if (!(this.deserializer instanceof AbstractDeserializer)) {
+            return apply(Streams.reader(bytes));
+        }
+        final AbstractDeserializer<?> deserializer = (AbstractDeserializer<?>) this.deserializer;
+        return toMap(new CheckedSupplier<Object>() {
+            @Override
+            public Object get() {
+                return deserializer.deserialize(bytes, 0, bytes.length);
+            }
+        });
+    }
+
+    private Map<String, ?> toMap(CheckedSupplier<Object> deserialization) {
         Object value;
         try {
-            value = this.deserializer.deserialize(in);
+            value = deserialization.get();
             if (value == null) {
                 String msg = "Deserialized data resulted in a null value; cannot create Map<String,?>";
                 throw new DeserializationException(msg);
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.lang;
+
+import io.jsonwebtoken.lang.Assert;
+import io.jsonwebtoken.lang.Strings;
+
+/**
+ * An immutable, non-copying {@link CharSequence} window over a range of a source {@code String}.  Characters are
+ * read directly from the source; a new {@code String} is only created if and when {@link #toString()} is called.
+ *
+ * @since 0.12.6
+ */
+public final class CharSequenceView implements CharSequence {
+
+    private final String source;
+    private final int start;
+    private final int end;
+
+    private CharSequenceView(String source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns a view of the {@code source} characters from {@code start} (inclusive) to {@code end} (exclusive).
+     * {@link Strings#EMPTY} is returned for an empty range, and {@code source} itself is returned if the range
+     * covers the entire string.
+     *
+     * @param source the source string
+     * @param start  the start index, inclusive
+     * @param end    the end index, exclusive
+     * @return a view of the specified source characters.
+     */
+    public static CharSequence of(String source, int start, int end) {
+        Assert.notNull(source, "Source string cannot be null.");
+        if (start < 0 || end > source.length() || start > end) {
+            String msg = "Invalid range [" + start + ", " + end + ") for a source of length " + source.length() + ".";
+            throw new IndexOutOfBoundsException(msg);
+        }
+        if (start == end) {
+            return Strings.EMPTY;
+        }
+        if (start == 0 && end == source.length()) {
+            return source;
+        }
+        return new CharSequenceView(source, start, end);
+    }
+
+    @Override
+    public int length() {
+        return this.end - this.start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length());
+        }
+        return this.source.charAt(this.start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length() || start > end) {
+            throw new IndexOutOfBoundsException("Invalid range [" + start + ", " + end + ") for length " + length());
+        }
+        return of(this.source, this.start + start, this.start + end);
+    }
+
+    @Override
+    public String toString() {
+        return this.source.substring(this.start, this.end);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.lang;
+
+import io.jsonwebtoken.lang.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a batch of independent tasks concurrently on a caller-supplied {@link Executor}, returning only after all of
+ * them have completed.
+ *
+ * <p>The calling thread does not just wait for the executor: after submitting every task, it also runs any task
+ * that no executor thread has started yet. Waiting is therefore only ever for tasks that are already running,
+ * so a batch cannot deadlock even when it is started from one of the executor's own threads (for example, from
+ * a task running in the same bounded thread pool or {@code ForkJoinPool}). Tasks the executor rejects are likewise
+ * run on the calling thread.</p>
+ *
+ * @since 0.12.6
+ */
+public final class ConcurrentTasks {
+
+    private ConcurrentTasks() {
+    }
+
+    /**
+     * Runs all {@code tasks}, using {@code executor} to run them concurrently, and returns once every task has
+     * completed. If any task throws a {@code RuntimeException} or {@code Error}, the remaining tasks still run and
+     * the first such exception is rethrown after all tasks have completed.
+     *
+     * @param tasks           the tasks to run, each exactly once
+     * @param executor        the executor used to run tasks concurrently with the calling thread
+     * @param interruptedMsg  the message of the {@code IllegalStateException} thrown if the calling thread is
+     *                        interrupted while waiting for tasks running on other threads
+     * @throws IllegalStateException if the calling thread is interrupted while waiting for tasks to complete
+     */
+    public static void runAll(List<? extends Runnable> tasks, Executor executor, String interruptedMsg) {
+        Assert.notNull(tasks, "Tasks cannot be null.");
+        Assert.notNull(executor, "Executor cannot be null.");
+        final CountDownLatch latch = new CountDownLatch(tasks.size());
+        final AtomicReference<RuntimeException> exception = new AtomicReference<>();
+        final AtomicReference<Error> error = new AtomicReference<>();
+        List<Runnable> claimable = new ArrayList<>(tasks.size());
+        for (final Runnable task : tasks) {
+            final AtomicBoolean claimed = new AtomicBoolean();
+            Runnable once = new Runnable() {
+                @Override
+                public void run() {
+                    if (!claimed.compareAndSet(false, true)) {
+                        return; // already run (or running) on another thread
+                    }
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        exception.compareAndSet(null, e);
+                    } catch (Error e) {
+                        error.compareAndSet(null, e);
+                    } finally {
+                        latch.countDown();
+                    }
+                }
+            };
+            claimable.add(once);
+            try {
+                executor.execute(once);
+            } catch (RejectedExecutionException e) {
+                once.run();
+            }
+        }
+        // Run whatever the executor hasn't started yet, last submitted first since executors typically start with
+        // the first:
+        for (int i = claimable.size() - 1; i >= 0; i--) {
+            claimable.get(i).run();
+        }
+        try {
+            latch.await(); // only waits for tasks already running on executor threads
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(interruptedMsg, e);
+        }
+        if (error.get() != null) {
+            throw error.get();
+        }
+        if (exception.get() != null) {
+            throw exception.get();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.lang;
+
+import io.jsonwebtoken.lang.Assert;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A thread-safe, size-bounded cache that evicts the least recently used entry when full. Entries may optionally
+ * be given an expiration time, after which they are no longer returned.
+ *
+ * <p>Times are arbitrary {@code long} values (typically epoch milliseconds) supplied by the caller so that the
+ * cache never consults a clock itself.</p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @since 0.12.6
+ */
+public final class LruCache<K, V> {
+
+    private final Map<K, Entry<V>> entries;
+
+    public LruCache(final int capacity) {
+        Assert.gt(capacity, 0, "capacity must be greater than zero.");
+        this.entries = new LinkedHashMap<K, Entry<V>>(Math.min(capacity, 16), 0.75f, true) { // access order
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached for the specified key, or {@code null} if there isn't one.
+     *
+     * @param key the key to look up
+     * @return the value cached for the specified key, or {@code null} if there isn't one.
+     */
+    public V get(K key) {
+        return get(key, Long.MIN_VALUE);
+    }
+
+    /**
+     * Returns the value cached for the specified key, or {@code null} if there isn't one or it expired at or before
+     * {@code now}.  An expired entry is removed.
+     *
+     * @param key the key to look up
+     * @param now the current time
+     * @return the unexpired value cached for the specified key, or {@code null} if there isn't one.
+     */
+    public V get(K key, long now) {
+        synchronized (this.entries) {
+            Entry<V> entry = this.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= now) {
+                this.entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    /**
+     * Caches the specified value without an expiration time.
+     *
+     * @param key   the key
+     * @param value the value to cache
+     */
+    public void put(K key, V value) {
+        put(key, value, Long.MAX_VALUE);
+    }
+
+    /**
+     * Caches the specified value until {@code expiresAt}.
+     *
+     * @param key       the key
+     * @param value     the value to cache
+     * @param expiresAt the time at which the value expires
+     */
+    public void put(K key, V value, long expiresAt) {
+        Assert.notNull(key, "key cannot be null.");
+        Assert.notNull(value, "value cannot be null.");
+        synchronized (this.entries) {
+            this.entries.put(key, new Entry<>(value, expiresAt));
+        }
+    }
+
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
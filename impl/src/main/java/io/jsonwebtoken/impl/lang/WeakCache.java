@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.lang;
+
+import io.jsonwebtoken.lang.Assert;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A thread-safe, lock-free, fixed-size cache that only <em>weakly</em> references its values, so caching never
+ * prevents a value from being garbage collected.
+ *
+ * <p>The cache is direct-mapped: each key hashes to exactly one slot, and adding a value replaces whatever the slot
+ * held before. Concurrent updates of the same slot simply race, with one of them winning. The cache may therefore
+ * forget any value at any time and must only be used where recomputing a missing value is always correct. Looking
+ * up a cached value neither locks nor allocates.</p>
+ *
+ * <p>An {@link #identity(int) identity} cache uses values as their own keys, compared by identity ({@code ==})
+ * rather than {@code equals}, and never strongly references them.</p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @since 0.12.6
+ */
+public final class WeakCache<K, V> {
+
+    private final AtomicReferenceArray<Entry<K, V>> entries;
+
+    private final int mask;
+
+    private final boolean identity;
+
+    private WeakCache(int capacity, boolean identity) {
+        Assert.gt(capacity, 0, "capacity must be greater than zero.");
+        int size = Integer.highestOneBit(capacity);
+        size = size < capacity ? size << 1 : size; // next power of two
+        this.entries = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.identity = identity;
+    }
+
+    /**
+     * Returns a new cache of at least {@code capacity} slots whose keys are compared with {@code equals}. Keys are
+     * strongly referenced.
+     *
+     * @param capacity the minimum number of slots
+     * @param <K>      key type
+     * @param <V>      value type
+     * @return a new cache whose keys are compared with {@code equals}.
+     */
+    public static <K, V> WeakCache<K, V> of(int capacity) {
+        return new WeakCache<>(capacity, false);
+    }
+
+    /**
+     * Returns a new cache of at least {@code capacity} slots whose values are their own keys, compared by identity.
+     *
+     * @param capacity the minimum number of slots
+     * @param <T>      element type
+     * @return a new cache of elements compared by identity.
+     */
+    public static <T> WeakCache<T, T> identity(int capacity) {
+        return new WeakCache<>(capacity, true);
+    }
+
+    private int index(Object key) {
+        int h = this.identity ? System.identityHashCode(key) : key.hashCode();
+        return (h ^ (h >>> 16)) & this.mask;
+    }
+
+    /**
+     * Returns the value cached for the specified key, or {@code null} if there isn't one.
+     *
+     * @param key the key to look up, may be {@code null}
+     * @return the value cached for the specified key, or {@code null} if there isn't one.
+     */
+    public V get(K key) {
+        if (key == null) {
+            return null;
+        }
+        Entry<K, V> entry = this.entries.get(index(key));
+        V value = entry != null ? entry.get() : null;
+        if (value == null) {
+            return null;
+        }
+        boolean match = this.identity ? value == key : key.equals(entry.key);
+        return match ? value : null;
+    }
+
+    /**
+     * Returns {@code true} if the specified element is in an {@link #identity(int) identity} cache, {@code false}
+     * otherwise.
+     *
+     * @param element the element to check, may be {@code null}
+     * @return {@code true} if the specified element is in this cache, {@code false} otherwise.
+     */
+    public boolean contains(K element) {
+        return get(element) != null;
+    }
+
+    /**
+     * Caches the specified value for the specified key, replacing any value held by the same slot.
+     *
+     * @param key   the key, which must be the value itself for an {@link #identity(int) identity} cache
+     * @param value the value to cache
+     */
+    public void put(K key, V value) {
+        Assert.notNull(key, "Key cannot be null.");
+        Assert.notNull(value, "Value cannot be null.");
+        Assert.isTrue(!this.identity || key == value, "Identity cache values must be their own keys.");
+        // an identity cache must never strongly reference its elements:
+        this.entries.set(index(key), new Entry<>(this.identity ? null : key, value));
+    }
+
+    /**
+     * Adds the specified element to an {@link #identity(int) identity} cache.
+     *
+     * @param element the element to add
+     */
+    @SuppressWarnings("unchecked")
+    public void add(K element) {
+        put(element, (V) element);
+    }
+
+    /**
+     * Returns the number of cached values that have not been garbage collected.
+     *
+     * @return the number of cached values that have not been garbage collected.
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < this.entries.length(); i++) {
+            Entry<K, V> entry = this.entries.get(i);
+            if (entry != null && entry.get() != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private static final class Entry<K, V> extends WeakReference<V> {
+
+        private final K key; // null for identity caches
+
+        private Entry(K key, V value) {
+            super(value);
+            this.key = key;
+        }
+    }
+}
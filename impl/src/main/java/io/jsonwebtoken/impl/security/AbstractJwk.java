@@ -16,6 +16,7 @@
 package io.jsonwebtoken.impl.security;
 
 import io.jsonwebtoken.impl.io.Streams;
+import io.jsonwebtoken.impl.lang.CheckedFunction;
 import io.jsonwebtoken.impl.lang.Nameable;
 import io.jsonwebtoken.impl.lang.Parameter;
 import io.jsonwebtoken.impl.lang.ParameterReadable;
@@ -35,6 +36,7 @@ import io.jsonwebtoken.security.KeyOperation;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.util.ArrayList;
@@ -43,6 +45,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public abstract class AbstractJwk<K extends Key> implements Jwk<K>, ParameterReadable, Nameable {
 
@@ -55,8 +59,11 @@ public abstract class AbstractJwk<K extends Key> implements Jwk<K>, ParameterRea
     static final Set<Parameter<?>> PARAMS = Collections.setOf(ALG, KID, KEY_OPS, KTY);
     public static final String IMMUTABLE_MSG = "JWKs are immutable and may not be modified.";
 
+    private static final byte[] THUMBPRINT_NAME_SEPARATOR = "\":\"".getBytes(StandardCharsets.UTF_8);
+
     protected final JwkContext<K> context;
     private final List<Parameter<?>> THUMBPRINT_PARAMS;
+    private final ConcurrentMap<HashAlgorithm, JwkThumbprint> thumbprints = new ConcurrentHashMap<>(2);
     private final int hashCode;
 
     /**
@@ -113,8 +120,8 @@ public abstract class AbstractJwk<K extends Key> implements Jwk<K>, ParameterRea
         return Objects.nullSafeHashCode(list.toArray());
     }
 
-    private String getRequiredThumbprintValue(Parameter<?> param) {
-        Object value = get(param.getId());
+    private static String getRequiredThumbprintValue(Map<String, ?> values, Parameter<?> param) {
+        Object value = values.get(param.getId());
         if (value instanceof Supplier) {
             value = ((Supplier<?>) value).get();
         }
@@ -128,11 +135,24 @@ public abstract class AbstractJwk<K extends Key> implements Jwk<K>, ParameterRea
      * @return the JWK's canonically ordered JSON for JWK thumbprint computation.
      */
     private String toThumbprintJson() {
+        return toThumbprintJson(this, this.THUMBPRINT_PARAMS);
+    }
+
+    /**
+     * Returns the canonically ordered JSON for JWK thumbprint computation as defined by
+     * <a href="https://www.rfc-editor.org/rfc/rfc7638#section-3.2">RFC 7638, Section 3.2</a> using the specified
+     * canonical JWK parameter values.
+     *
+     * @param values           the canonical JWK parameter values
+     * @param thumbprintParams the required thumbprint parameters, in lexicographic order
+     * @return the canonically ordered JSON for JWK thumbprint computation.
+     */
+    static String toThumbprintJson(Map<String, ?> values, List<Parameter<?>> thumbprintParams) {
         StringBuilder sb = new StringBuilder().append('{');
-        Iterator<Parameter<?>> i = this.THUMBPRINT_PARAMS.iterator();
+        Iterator<Parameter<?>> i = thumbprintParams.iterator();
         while (i.hasNext()) {
             Parameter<?> param = i.next();
-            String value = getRequiredThumbprintValue(param);
+            String value = getRequiredThumbprintValue(values, param);
             sb.append('"').append(param.getId()).append("\":\"").append(value).append('"');
             if (i.hasNext()) {
                 sb.append(",");
@@ -142,6 +162,32 @@ public abstract class AbstractJwk<K extends Key> implements Jwk<K>, ParameterRea
         return sb.toString();
     }
 
+    /**
+     * Writes the UTF-8 bytes of the same canonical JSON produced by {@link #toThumbprintJson(Map, List)} directly to
+     * the specified {@code MessageDigest}, without creating an intermediate {@code String}.
+     *
+     * @param values           the canonical JWK parameter values
+     * @param thumbprintParams the required thumbprint parameters, in lexicographic order
+     * @param md               the MessageDigest to update
+     */
+    static void writeThumbprintJson(Map<String, ?> values, List<Parameter<?>> thumbprintParams, MessageDigest md) {
+        md.update((byte) '{');
+        Iterator<Parameter<?>> i = thumbprintParams.iterator();
+        while (i.hasNext()) {
+            Parameter<?> param = i.next();
+            String value = getRequiredThumbprintValue(values, param);
+            md.update((byte) '"');
+            md.update(param.getId().getBytes(StandardCharsets.UTF_8));
+            md.update(THUMBPRINT_NAME_SEPARATOR);
+            md.update(value.getBytes(StandardCharsets.UTF_8));
+            md.update((byte) '"');
+            if (i.hasNext()) {
+                md.update((byte) ',');
+            }
+        }
+        md.update((byte) '}');
+    }
+
     @Override
     public JwkThumbprint thumbprint() {
         return thumbprint(Jwks.HASH.SHA256);
@@ -149,12 +195,37 @@ public abstract class AbstractJwk<K extends Key> implements Jwk<K>, ParameterRea
 
     @Override
     public JwkThumbprint thumbprint(final HashAlgorithm alg) {
+        Assert.notNull(alg, "HashAlgorithm cannot be null.");
+        // JWKs are immutable, so a thumbprint only ever needs to be computed once per hash algorithm:
+        JwkThumbprint thumbprint = this.thumbprints.get(alg);
+        if (thumbprint == null) {
+            thumbprint = new DefaultJwkThumbprint(digestThumbprintJson(alg), alg);
+            JwkThumbprint existing = this.thumbprints.putIfAbsent(alg, thumbprint);
+            if (existing != null) { // computed concurrently by another thread, retain the original:
+                thumbprint = existing;
+            }
+        }
+        return thumbprint;
+    }
+
+    private byte[] digestThumbprintJson(HashAlgorithm alg) {
+        if (alg instanceof DefaultHashAlgorithm) {
+            // fast path: write the canonical JSON directly to a MessageDigest. JWKs have no JCA pooling
+            // configuration, so a new MessageDigest is used rather than populating the shared per-thread pool:
+            return ((DefaultHashAlgorithm) alg).digest(this.context.getProvider(), null,
+                    new CheckedFunction<MessageDigest, byte[]>() {
+                        @Override
+                        public byte[] apply(MessageDigest md) {
+                            writeThumbprintJson(AbstractJwk.this, THUMBPRINT_PARAMS, md);
+                            return md.digest();
+                        }
+                    });
+        }
         String json = toThumbprintJson();
         Assert.hasText(json, "Canonical JWK Thumbprint JSON cannot be null or empty.");
         byte[] bytes = json.getBytes(StandardCharsets.UTF_8); // https://www.rfc-editor.org/rfc/rfc7638#section-3 #2
         InputStream in = Streams.of(bytes);
-        byte[] digest = alg.digest(new DefaultRequest<>(in, this.context.getProvider(), this.context.getRandom()));
-        return new DefaultJwkThumbprint(digest, alg);
+        return alg.digest(new DefaultRequest<>(in, this.context.getProvider(), this.context.getRandom()));
     }
 
     @Override
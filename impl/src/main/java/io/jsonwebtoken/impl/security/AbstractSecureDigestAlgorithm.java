@@ -15,6 +15,7 @@
  */
 package io.jsonwebtoken.impl.security;
 
+import io.jsonwebtoken.impl.lang.WeakCache;
 import io.jsonwebtoken.lang.Assert;
 import io.jsonwebtoken.security.KeyException;
 import io.jsonwebtoken.security.SecureDigestAlgorithm;
@@ -28,6 +29,15 @@ import java.security.Key;
 
 abstract class AbstractSecureDigestAlgorithm<S extends Key, V extends Key> extends CryptoAlgorithm implements SecureDigestAlgorithm<S, V> {
 
+    private static final int VALID_KEYS_CAPACITY = 64;
+
+    // Keys that have already passed validateKey for this algorithm, by identity. validateKey is a deterministic
+    // function of the key and this algorithm, so keys are only added after successful validation and a key that
+    // failed validation (or was forgotten) is always re-validated. Algorithms are shared by all threads, so these
+    // are lock-free:
+    private final WeakCache<Key, Key> validSigningKeys = WeakCache.identity(VALID_KEYS_CAPACITY);
+    private final WeakCache<Key, Key> validVerificationKeys = WeakCache.identity(VALID_KEYS_CAPACITY);
+
     AbstractSecureDigestAlgorithm(String id, String jcaName) {
         super(id, jcaName);
     }
@@ -38,13 +48,21 @@ abstract class AbstractSecureDigestAlgorithm<S extends Key, V extends Key> exten
 
     protected abstract void validateKey(Key key, boolean signing);
 
+    private void validate(Key key, boolean signing) {
+        WeakCache<Key, Key> valid = signing ? this.validSigningKeys : this.validVerificationKeys;
+        if (!valid.contains(key)) {
+            validateKey(key, signing);
+            valid.add(key); // only reached if validation succeeded
+        }
+    }
+
     @Override
     public final byte[] digest(SecureRequest<InputStream, S> request) throws SecurityException {
         Assert.notNull(request, "Request cannot be null.");
         final S key = Assert.notNull(request.getKey(), "Signing key cannot be null.");
         Assert.notNull(request.getPayload(), "Request content cannot be null.");
         try {
-            validateKey(key, true);
+            validate(key, true);
             return doDigest(request);
         } catch (SignatureException | KeyException e) {
             throw e; //propagate
@@ -64,7 +82,7 @@ abstract class AbstractSecureDigestAlgorithm<S extends Key, V extends Key> exten
         Assert.notNull(request.getPayload(), "Request content cannot be null or empty.");
         Assert.notEmpty(request.getDigest(), "Request signature byte array cannot be null or empty.");
         try {
-            validateKey(key, false);
+            validate(key, false);
             return doVerify(request);
         } catch (SignatureException | KeyException e) {
             throw e; //propagate
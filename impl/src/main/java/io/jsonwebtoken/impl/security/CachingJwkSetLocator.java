@@ -0,0 +1,388 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.security;
+
+import io.jsonwebtoken.Clock;
+import io.jsonwebtoken.JweHeader;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.impl.DefaultClock;
+import io.jsonwebtoken.io.IOException;
+import io.jsonwebtoken.io.Parser;
+import io.jsonwebtoken.lang.Assert;
+import io.jsonwebtoken.lang.Objects;
+import io.jsonwebtoken.lang.Strings;
+import io.jsonwebtoken.lang.Supplier;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSelector;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.SecurityException;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A key {@link io.jsonwebtoken.Locator Locator} that finds keys in a {@link JwkSet} obtained from a pluggable source,
+ * such as a JWKS endpoint or a local file, caching the parsed JWK Set and keeping it current in the background.
+ *
+ * <ul>
+ *     <li>The JWK Set is loaded on first use. Callers wait for this initial load only.</li>
+ *     <li>Once the cached JWK Set is older than the {@link Builder#refreshInterval(long, TimeUnit) refresh interval},
+ *     the next lookup triggers an asynchronous refresh and continues to use the cached JWK Set.</li>
+ *     <li>A lookup for an unknown {@code kid} (for example, just after a key rotation) waits for a refresh, but
+ *     refreshes are never attempted more often than the
+ *     {@link Builder#minRefreshInterval(long, TimeUnit) minimum refresh interval} allows.</li>
+ *     <li>At most one refresh is in progress at any time; concurrent callers that need one all wait for the same
+ *     refresh. A caller that needs a refresh the executor hasn't started yet performs it itself, so lookups never
+ *     wait for a busy or bounded executor.</li>
+ *     <li>If a refresh fails, the previously cached JWK Set continues to be used.</li>
+ * </ul>
+ *
+ * <p>JWKs are selected by the header {@code kid} if present, otherwise by its {@code x5t#S256} or {@code x5t}, and
+ * must be compatible with the header {@code alg} and intended {@code use} ({@code sig} for JWSs, {@code enc} for
+ * JWEs). If a header has none of these identifiers, a key is only located if exactly one JWK is compatible.</p>
+ *
+ * <p>Instances are thread-safe.</p>
+ *
+ * @since 0.12.6
+ */
+public final class CachingJwkSetLocator extends LocatorAdapter<Key> {
+
+    static final long DEFAULT_REFRESH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    static final long DEFAULT_MIN_REFRESH_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * Runs every refresh in a new daemon thread: refreshes are infrequent, and this avoids requiring a lifecycle
+     * to shut down a thread pool.
+     */
+    private static final Executor DAEMON_EXECUTOR = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            Thread t = new Thread(command, "jjwt-jwks-refresh");
+            t.setDaemon(true);
+            t.start();
+        }
+    };
+
+    private final Supplier<InputStream> source;
+    private final Parser<JwkSet> parser;
+    private final Executor executor;
+    private final Clock clock;
+    private final long refreshIntervalMillis;
+    private final long minRefreshIntervalMillis;
+
+    private final Object lock = new Object();
+    private FutureTask<JwkSet> refreshing; // guarded by lock
+    private long lastRefresh = Long.MIN_VALUE; // guarded by lock, time of the most recent refresh attempt
+
+    private volatile Snapshot snapshot;
+    private volatile Exception failure; // the most recent refresh failure, if the latest refresh failed
+
+    private CachingJwkSetLocator(Builder builder) {
+        this.source = builder.source;
+        this.parser = builder.parser != null ? builder.parser : new DefaultJwkSetParserBuilder().build();
+        this.executor = builder.executor != null ? builder.executor : DAEMON_EXECUTOR;
+        this.clock = builder.clock != null ? builder.clock : DefaultClock.INSTANCE;
+        this.refreshIntervalMillis = builder.refreshIntervalMillis;
+        this.minRefreshIntervalMillis = builder.minRefreshIntervalMillis;
+    }
+
+    /**
+     * Returns a new builder for a locator that obtains the JWK Set JSON from the specified source. The source is
+     * invoked once per refresh, and the returned stream is always closed after it has been read.
+     *
+     * @param source supplies a new UTF-8 {@code InputStream} of the JWK Set JSON for each refresh
+     * @return a new builder.
+     */
+    public static Builder builder(Supplier<InputStream> source) {
+        return new Builder(source);
+    }
+
+    /**
+     * Returns a new builder for a locator that reads the JWK Set JSON from the specified file for every refresh.
+     *
+     * @param path the JWK Set JSON file
+     * @return a new builder.
+     */
+    public static Builder builder(final Path path) {
+        Assert.notNull(path, "Path cannot be null.");
+        return builder(new Supplier<InputStream>() {
+            @Override
+            public InputStream get() {
+                try {
+                    return Files.newInputStream(path);
+                } catch (java.io.IOException e) {
+                    throw new IOException("Unable to read JWK Set file " + path + ": " + e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        return locate(header, "sig");
+    }
+
+    @Override
+    protected Key locate(JweHeader header) {
+        return locate(header, "enc");
+    }
+
+    private Key locate(ProtectedHeader header, String use) {
+        Jwk<?> jwk = select(current(), header, use);
+        if (jwk == null && Strings.hasText(header.getKeyId())) {
+            // possibly a newly rotated key, so try a (rate-limited) refresh:
+            FutureTask<JwkSet> refresh = refresh(now());
+            if (refresh != null) {
+                try {
+                    jwk = select(await(refresh), header, use);
+                } catch (ExecutionException e) { // keep using the existing JWK Set
+                    return null;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+        }
+        return jwk != null ? jwk.toKey() : null;
+    }
+
+    private static Jwk<?> select(JwkSet jwks, ProtectedHeader header, String use) {
+        JwkSelector selector = jwks.select().use(use).algorithm(header.getAlgorithm());
+        boolean identified = true;
+        if (Strings.hasText(header.getKeyId())) {
+            selector.id(header.getKeyId());
+        } else if (header.getX509Sha256Thumbprint() != null) {
+            selector.x509Sha256Thumbprint(header.getX509Sha256Thumbprint());
+        } else if (header.getX509Sha1Thumbprint() != null) {
+            selector.x509Sha1Thumbprint(header.getX509Sha1Thumbprint());
+        } else {
+            identified = false;
+        }
+        Iterator<Jwk<?>> i = selector.get().iterator();
+        if (!i.hasNext()) {
+            return null;
+        }
+        Jwk<?> jwk = i.next();
+        return identified || !i.hasNext() ? jwk : null; // never guess between multiple unidentified keys
+    }
+
+    private long now() {
+        return this.clock.now().getTime();
+    }
+
+    private JwkSet current() {
+        Snapshot snapshot = this.snapshot;
+        long now = now();
+        if (snapshot == null) { // initial load, we need to wait:
+            FutureTask<JwkSet> refresh = refresh(now);
+            if (refresh != null) {
+                try {
+                    return await(refresh);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    throw new SecurityException("Unable to load JWK Set: " + cause.getMessage(), cause);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SecurityException("Interrupted while loading JWK Set.", e);
+                }
+            }
+            snapshot = this.snapshot; // may have completed concurrently
+            if (snapshot == null) { // rate-limited after a failure:
+                Exception failure = this.failure;
+                String msg = "Unable to load JWK Set" + (failure != null ? ": " + failure.getMessage() : ".");
+                throw new SecurityException(msg, failure);
+            }
+        } else if (now - snapshot.loaded >= this.refreshIntervalMillis) {
+            refresh(now); // asynchronously, we can still use the current JWK Set
+        }
+        return snapshot.jwks;
+    }
+
+    /**
+     * Waits for the specified refresh to complete, first running it on the calling thread if the executor hasn't
+     * started it yet (running a started or completed {@code FutureTask} is a no-op). Waiting is therefore only ever
+     * for a refresh already in progress, even if the executor's threads are all busy, such as with request threads
+     * waiting for this very refresh.
+     */
+    private static JwkSet await(FutureTask<JwkSet> refresh) throws ExecutionException, InterruptedException {
+        refresh.run();
+        return refresh.get();
+    }
+
+    /**
+     * Returns the in-progress refresh, or starts a new one if allowed by the minimum refresh interval, or returns
+     * {@code null} if a refresh is not allowed yet.
+     */
+    private FutureTask<JwkSet> refresh(long now) {
+        final FutureTask<JwkSet> task;
+        synchronized (this.lock) {
+            if (this.refreshing != null) {
+                return this.refreshing;
+            }
+            if (this.lastRefresh != Long.MIN_VALUE && now - this.lastRefresh < this.minRefreshIntervalMillis) {
+                return null;
+            }
+            task = new FutureTask<JwkSet>(new Callable<JwkSet>() {
+                @Override
+                public JwkSet call() throws Exception {
+                    return load();
+                }
+            }) {
+                @Override
+                protected void done() { // on whichever thread ran it
+                    synchronized (lock) {
+                        if (refreshing == this) {
+                            refreshing = null;
+                        }
+                    }
+                }
+            };
+            this.refreshing = task;
+            this.lastRefresh = now;
+        }
+        try {
+            this.executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+        return task;
+    }
+
+    private JwkSet load() throws Exception {
+        InputStream in = null;
+        try {
+            in = Assert.notNull(this.source.get(), "JWK Set source InputStream cannot be null.");
+            JwkSet jwks = this.parser.parse(in);
+            this.snapshot = new Snapshot(jwks, now());
+            this.failure = null;
+            return jwks;
+        } catch (Exception e) {
+            this.failure = e;
+            throw e;
+        } finally {
+            Objects.nullSafeClose(in);
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final JwkSet jwks;
+        private final long loaded;
+
+        private Snapshot(JwkSet jwks, long loaded) {
+            this.jwks = jwks;
+            this.loaded = loaded;
+        }
+    }
+
+    /**
+     * Builder for {@link CachingJwkSetLocator} instances.
+     */
+    public static final class Builder implements io.jsonwebtoken.lang.Builder<CachingJwkSetLocator> {
+
+        private final Supplier<InputStream> source;
+        private Parser<JwkSet> parser;
+        private Executor executor;
+        private Clock clock;
+        private long refreshIntervalMillis = DEFAULT_REFRESH_INTERVAL_MILLIS;
+        private long minRefreshIntervalMillis = DEFAULT_MIN_REFRESH_INTERVAL_MILLIS;
+
+        private Builder(Supplier<InputStream> source) {
+            this.source = Assert.notNull(source, "JWK Set source cannot be null.");
+        }
+
+        /**
+         * Sets the parser used to parse the JWK Set JSON, for example one created by {@code Jwks.setParser()} with
+         * a specific {@code Provider} or {@code Deserializer}. A default JWK Set parser is used otherwise.
+         *
+         * @param parser the JWK Set parser
+         * @return the builder for method chaining.
+         */
+        public Builder parser(Parser<JwkSet> parser) {
+            this.parser = parser;
+            return this;
+        }
+
+        /**
+         * Sets the executor used to perform refreshes. By default, each refresh runs in a new daemon thread. A lookup
+         * that must wait for a refresh the executor hasn't started yet performs the refresh on its own thread.
+         *
+         * @param executor the executor used to perform refreshes
+         * @return the builder for method chaining.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the clock used to determine the age of the cached JWK Set. The system clock is used by default.
+         *
+         * @param clock the clock used to determine the age of the cached JWK Set
+         * @return the builder for method chaining.
+         */
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Sets how old the cached JWK Set may become before a background refresh is triggered. The default is
+         * 5 minutes.
+         *
+         * @param duration the refresh interval duration
+         * @param unit     the refresh interval time unit
+         * @return the builder for method chaining.
+         * @throws IllegalArgumentException if {@code duration} is not positive
+         */
+        public Builder refreshInterval(long duration, TimeUnit unit) throws IllegalArgumentException {
+            Assert.gt(duration, 0L, "Refresh interval must be > 0.");
+            this.refreshIntervalMillis = Assert.notNull(unit, "TimeUnit cannot be null.").toMillis(duration);
+            return this;
+        }
+
+        /**
+         * Sets the minimum time between refresh attempts, limiting how often the source is consulted for unknown
+         * {@code kid}s or after failures. The default is 30 seconds.
+         *
+         * @param duration the minimum refresh interval duration, may be zero
+         * @param unit     the minimum refresh interval time unit
+         * @return the builder for method chaining.
+         * @throws IllegalArgumentException if {@code duration} is negative
+         */
+        public Builder minRefreshInterval(long duration, TimeUnit unit) throws IllegalArgumentException {
+            Assert.isTrue(duration >= 0, "Minimum refresh interval cannot be negative.");
+            this.minRefreshIntervalMillis = Assert.notNull(unit, "TimeUnit cannot be null.").toMillis(duration);
+            return this;
+        }
+
+        @Override
+        public CachingJwkSetLocator build() {
+            return new CachingJwkSetLocator(this);
+        }
+    }
+}
@@ -65,7 +65,8 @@ abstract class CryptoAlgorithm implements Identifiable {
         String jcaName = Assert.hasText(getJcaName(request), "Request jcaName cannot be null or empty.");
         Provider provider = request.getProvider();
         SecureRandom random = ensureSecureRandom(request);
-        return new JcaTemplate(jcaName, provider, random);
+        JcaInstancePool pool = request instanceof DefaultRequest ? ((DefaultRequest<?>) request).getPool() : null;
+        return new JcaTemplate(jcaName, provider, random, pool);
     }
 
     protected String getJcaName(Request<?> request) {
@@ -24,6 +24,7 @@ import io.jsonwebtoken.security.VerifyDigestRequest;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.MessageDigest;
+import java.security.Provider;
 import java.util.Locale;
 
 public final class DefaultHashAlgorithm extends CryptoAlgorithm implements HashAlgorithm {
@@ -52,6 +53,21 @@ public final class DefaultHashAlgorithm extends CryptoAlgorithm implements HashA
         });
     }
 
+    /**
+     * Returns the digest computed by the specified function, which is given a {@code MessageDigest} to update
+     * directly, avoiding the intermediate {@code InputStream} and copy buffer needed by {@link #digest(Request)}.
+     * The {@code MessageDigest} is obtained from {@code pool} if it is not {@code null}, or from the JCA provider
+     * otherwise.
+     *
+     * @param provider the JCA provider to use, or {@code null} for the JCA default provider
+     * @param pool     the pool from which to obtain the MessageDigest, or {@code null} if pooling is not enabled
+     * @param fn       the function that updates the MessageDigest and returns its {@code digest()} result
+     * @return the computed digest
+     */
+    byte[] digest(Provider provider, JcaInstancePool pool, CheckedFunction<MessageDigest, byte[]> fn) {
+        return new JcaTemplate(getJcaName(), provider, null, pool).withMessageDigest(fn);
+    }
+
     @Override
     public boolean verify(VerifyDigestRequest request) {
         Assert.notNull(request, "VerifyDigestRequest cannot be null.");
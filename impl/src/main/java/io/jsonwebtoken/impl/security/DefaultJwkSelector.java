@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.security;
+
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.lang.Assert;
+import io.jsonwebtoken.lang.Collections;
+import io.jsonwebtoken.security.AsymmetricJwk;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSelector;
+import io.jsonwebtoken.security.JwkThumbprint;
+import io.jsonwebtoken.security.KeyOperation;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * {@link JwkSelector} that starts from the most selective {@link DefaultJwkSet} index available for the specified
+ * criteria, and only then filters those candidates by any remaining criteria.
+ *
+ * @since 0.12.6
+ */
+final class DefaultJwkSelector implements JwkSelector {
+
+    private final DefaultJwkSet jwks;
+
+    private String kid;
+    private String x5t; // base64url, as canonically represented in JWKs
+    private String x5tS256; // base64url, as canonically represented in JWKs
+    private JwkThumbprint thumbprint;
+    private String use;
+    private KeyOperation operation;
+    private String alg;
+
+    DefaultJwkSelector(DefaultJwkSet jwks) {
+        this.jwks = Assert.notNull(jwks, "JwkSet cannot be null.");
+    }
+
+    private static String encode(byte[] thumbprint) {
+        return thumbprint != null ? Encoders.BASE64URL.encode(thumbprint) : null;
+    }
+
+    @Override
+    public JwkSelector id(String kid) {
+        this.kid = kid;
+        return this;
+    }
+
+    @Override
+    public JwkSelector x509Sha1Thumbprint(byte[] thumbprint) {
+        this.x5t = encode(thumbprint);
+        return this;
+    }
+
+    @Override
+    public JwkSelector x509Sha256Thumbprint(byte[] thumbprint) {
+        this.x5tS256 = encode(thumbprint);
+        return this;
+    }
+
+    @Override
+    public JwkSelector thumbprint(JwkThumbprint thumbprint) {
+        this.thumbprint = thumbprint;
+        return this;
+    }
+
+    @Override
+    public JwkSelector use(String use) {
+        this.use = use;
+        return this;
+    }
+
+    @Override
+    public JwkSelector operation(KeyOperation operation) {
+        this.operation = operation;
+        return this;
+    }
+
+    @Override
+    public JwkSelector algorithm(String alg) {
+        this.alg = alg;
+        return this;
+    }
+
+    @Override
+    public Set<Jwk<?>> get() {
+        Set<Jwk<?>> candidates;
+        if (this.thumbprint != null) {
+            candidates = this.jwks.getKeysByThumbprint(this.thumbprint);
+        } else if (this.kid != null) {
+            candidates = this.jwks.getKeysById(this.kid);
+        } else if (this.x5tS256 != null) {
+            candidates = this.jwks.getKeysByX509Sha256Thumbprint(this.x5tS256);
+        } else if (this.x5t != null) {
+            candidates = this.jwks.getKeysByX509Sha1Thumbprint(this.x5t);
+        } else {
+            candidates = this.jwks.getKeys();
+        }
+        Set<Jwk<?>> selected = new LinkedHashSet<>(Collections.size(candidates));
+        for (Jwk<?> jwk : candidates) {
+            if (matches(jwk)) {
+                selected.add(jwk);
+            }
+        }
+        return Collections.immutable(selected);
+    }
+
+    // thumbprints aren't checked here: when specified, candidates are always obtained from the thumbprint index
+    private boolean matches(Jwk<?> jwk) {
+        if (this.kid != null && !this.kid.equals(jwk.getId())) {
+            return false;
+        }
+        if (this.x5t != null && !this.x5t.equals(jwk.get(AbstractAsymmetricJwk.X5T.getId()))) {
+            return false;
+        }
+        if (this.x5tS256 != null && !this.x5tS256.equals(jwk.get(AbstractAsymmetricJwk.X5T_S256.getId()))) {
+            return false;
+        }
+        if (this.use != null && jwk instanceof AsymmetricJwk) {
+            String jwkUse = ((AsymmetricJwk<?>) jwk).getPublicKeyUse();
+            if (jwkUse != null && !this.use.equals(jwkUse)) {
+                return false;
+            }
+        }
+        if (this.operation != null && !Collections.isEmpty(jwk.getOperations()) &&
+                !containsOperation(jwk.getOperations())) {
+            return false;
+        }
+        String jwkAlg = jwk.getAlgorithm();
+        return this.alg == null || jwkAlg == null || this.alg.equals(jwkAlg);
+    }
+
+    private boolean containsOperation(Set<KeyOperation> ops) {
+        for (KeyOperation op : ops) {
+            if (this.operation.getId().equals(op.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
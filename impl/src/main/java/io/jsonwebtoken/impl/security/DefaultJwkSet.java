@@ -19,13 +19,21 @@ import io.jsonwebtoken.impl.ParameterMap;
 import io.jsonwebtoken.impl.lang.Converter;
 import io.jsonwebtoken.impl.lang.Parameter;
 import io.jsonwebtoken.impl.lang.Parameters;
+import io.jsonwebtoken.io.Encoders;
 import io.jsonwebtoken.lang.Collections;
+import io.jsonwebtoken.security.HashAlgorithm;
 import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSelector;
 import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.JwkThumbprint;
 
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class DefaultJwkSet extends ParameterMap implements JwkSet {
 
@@ -41,8 +49,63 @@ public class DefaultJwkSet extends ParameterMap implements JwkSet {
 
     static final Parameter<Set<Jwk<?>>> KEYS = param(JwkConverter.ANY);
 
+    // indexes of JWKs by canonical (String) member value, each retaining JWK Set order:
+    private final Map<String, Set<Jwk<?>>> byId = new LinkedHashMap<>();
+    private final Map<String, Set<Jwk<?>>> byX5t = new LinkedHashMap<>();
+    private final Map<String, Set<Jwk<?>>> byX5tS256 = new LinkedHashMap<>();
+
+    // RFC 7638 thumbprints require a digest per JWK, so these are only indexed on demand, per HashAlgorithm id:
+    private final ConcurrentMap<String, Map<String, Set<Jwk<?>>>> byThumbprint = new ConcurrentHashMap<>();
+
     public DefaultJwkSet(Parameter<Set<Jwk<?>>> param, Map<String, ?> src) {
         super(Parameters.registry(param), src);
+        for (Jwk<?> jwk : getKeys()) {
+            index(this.byId, jwk.get(AbstractJwk.KID.getId()), jwk);
+            index(this.byX5t, jwk.get(AbstractAsymmetricJwk.X5T.getId()), jwk);
+            index(this.byX5tS256, jwk.get(AbstractAsymmetricJwk.X5T_S256.getId()), jwk);
+        }
+    }
+
+    private static void index(Map<String, Set<Jwk<?>>> index, Object value, Jwk<?> jwk) {
+        if (value instanceof String) {
+            Set<Jwk<?>> jwks = index.get(value);
+            if (jwks == null) {
+                jwks = new LinkedHashSet<>();
+                index.put((String) value, jwks);
+            }
+            jwks.add(jwk);
+        }
+    }
+
+    private static Set<Jwk<?>> lookup(Map<String, Set<Jwk<?>>> index, String value) {
+        Set<Jwk<?>> jwks = index.get(value);
+        return jwks != null ? jwks : Collections.<Jwk<?>>emptySet();
+    }
+
+    Set<Jwk<?>> getKeysById(String kid) {
+        return lookup(this.byId, kid);
+    }
+
+    Set<Jwk<?>> getKeysByX509Sha1Thumbprint(String x5t) {
+        return lookup(this.byX5t, x5t);
+    }
+
+    Set<Jwk<?>> getKeysByX509Sha256Thumbprint(String x5tS256) {
+        return lookup(this.byX5tS256, x5tS256);
+    }
+
+    Set<Jwk<?>> getKeysByThumbprint(JwkThumbprint thumbprint) {
+        HashAlgorithm alg = thumbprint.getHashAlgorithm();
+        Map<String, Set<Jwk<?>>> index = this.byThumbprint.get(alg.getId());
+        if (index == null) {
+            index = new LinkedHashMap<>();
+            for (Jwk<?> jwk : getKeys()) {
+                index(index, Encoders.BASE64URL.encode(jwk.thumbprint(alg).toByteArray()), jwk);
+            }
+            Map<String, Set<Jwk<?>>> existing = this.byThumbprint.putIfAbsent(alg.getId(), index);
+            index = existing != null ? existing : index;
+        }
+        return lookup(index, Encoders.BASE64URL.encode(thumbprint.toByteArray()));
     }
 
     @Override
@@ -59,6 +122,11 @@ public class DefaultJwkSet extends ParameterMap implements JwkSet {
         return Collections.immutable(jwks);
     }
 
+    @Override
+    public JwkSelector select() {
+        return new DefaultJwkSelector(this);
+    }
+
     @Override
     public Iterator<Jwk<?>> iterator() {
         return getKeys().iterator(); // immutable because of getKeys() return value
@@ -20,22 +20,32 @@ import io.jsonwebtoken.io.Parser;
 import io.jsonwebtoken.security.JwkSet;
 import io.jsonwebtoken.security.JwkSetParserBuilder;
 
+import java.util.concurrent.Executor;
+
 public class DefaultJwkSetParserBuilder extends AbstractJwkParserBuilder<JwkSet, JwkSetParserBuilder>
         implements JwkSetParserBuilder {
 
     private boolean ignoreUnsupported = true;
 
+    private Executor executor;
+
     @Override
     public JwkSetParserBuilder ignoreUnsupported(boolean ignore) {
         this.ignoreUnsupported = ignore;
         return this;
     }
 
+    @Override
+    public JwkSetParserBuilder executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
     @Override
     public Parser<JwkSet> doBuild() {
         JwkSetDeserializer deserializer = new JwkSetDeserializer(this.deserializer);
         JwkBuilderSupplier supplier = new JwkBuilderSupplier(this.provider, this.operationPolicy);
-        JwkSetConverter converter = new JwkSetConverter(supplier, this.ignoreUnsupported);
+        JwkSetConverter converter = new JwkSetConverter(supplier, this.ignoreUnsupported, this.executor);
         return new ConvertingParser<>(deserializer, converter);
     }
 }
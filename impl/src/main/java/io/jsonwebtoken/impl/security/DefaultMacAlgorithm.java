@@ -200,10 +200,9 @@ final class DefaultMacAlgorithm extends AbstractSecureDigestAlgorithm<SecretKey,
 
     @Override
     public byte[] doDigest(final SecureRequest<InputStream, SecretKey> request) {
-        return jca(request).withMac(new CheckedFunction<Mac, byte[]>() {
+        return jca(request).withMac(request.getKey(), new CheckedFunction<Mac, byte[]>() {
             @Override
             public byte[] apply(Mac mac) throws Exception {
-                mac.init(request.getKey());
                 InputStream payload = request.getPayload();
                 byte[] buf = new byte[1024];
                 int len = 0;
@@ -24,11 +24,17 @@ public class DefaultRequest<T> extends DefaultMessage<T> implements Request<T> {
 
     private final Provider provider;
     private final SecureRandom secureRandom;
+    private final JcaInstancePool pool;
 
     public DefaultRequest(T payload, Provider provider, SecureRandom secureRandom) {
+        this(payload, provider, secureRandom, null);
+    }
+
+    public DefaultRequest(T payload, Provider provider, SecureRandom secureRandom, JcaInstancePool pool) {
         super(payload);
         this.provider = provider;
         this.secureRandom = secureRandom;
+        this.pool = pool;
     }
 
     @Override
@@ -40,4 +46,15 @@ public class DefaultRequest<T> extends DefaultMessage<T> implements Request<T> {
     public SecureRandom getSecureRandom() {
         return this.secureRandom;
     }
+
+    /**
+     * Returns the pool from which JCA engine instances used to satisfy this request may be reused, or {@code null}
+     * if new instances should be obtained.
+     *
+     * @return the pool from which JCA engine instances may be reused, or {@code null} if new instances should be
+     * obtained.
+     */
+    public JcaInstancePool getPool() {
+        return this.pool;
+    }
 }
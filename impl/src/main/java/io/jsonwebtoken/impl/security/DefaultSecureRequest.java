@@ -27,7 +27,11 @@ public class DefaultSecureRequest<T, K extends Key> extends DefaultRequest<T> im
     private final K KEY;
 
     public DefaultSecureRequest(T payload, Provider provider, SecureRandom secureRandom, K key) {
-        super(payload, provider, secureRandom);
+        this(payload, provider, secureRandom, key, null);
+    }
+
+    public DefaultSecureRequest(T payload, Provider provider, SecureRandom secureRandom, K key, JcaInstancePool pool) {
+        super(payload, provider, secureRandom, pool);
         this.KEY = Assert.notNull(key, "key cannot be null.");
     }
 
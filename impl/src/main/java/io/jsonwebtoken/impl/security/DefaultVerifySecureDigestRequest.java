@@ -28,7 +28,12 @@ public class DefaultVerifySecureDigestRequest<K extends Key> extends DefaultSecu
     private final byte[] digest;
 
     public DefaultVerifySecureDigestRequest(InputStream payload, Provider provider, SecureRandom secureRandom, K key, byte[] digest) {
-        super(payload, provider, secureRandom, key);
+        this(payload, provider, secureRandom, key, digest, null);
+    }
+
+    public DefaultVerifySecureDigestRequest(InputStream payload, Provider provider, SecureRandom secureRandom, K key,
+                                            byte[] digest, JcaInstancePool pool) {
+        super(payload, provider, secureRandom, key, pool);
         this.digest = Assert.notEmpty(digest, "Digest byte array cannot be null or empty.");
     }
 
@@ -41,6 +41,8 @@ public class ECCurve extends AbstractCurve {
     private static final BigInteger TWO = BigInteger.valueOf(2);
     private static final BigInteger THREE = BigInteger.valueOf(3);
 
+    static final int VALIDATED_POINTS_CAPACITY = 256; // per curve
+
     static final String KEY_PAIR_GENERATOR_JCA_NAME = "EC";
 
     public static final ECCurve P256 = new ECCurve("P-256", "secp256r1"); // JDK standard
@@ -88,7 +90,7 @@ public class ECCurve extends AbstractCurve {
         if (curve != null && key instanceof ECPublicKey) {
             ECPublicKey pub = (ECPublicKey) key;
             ECPoint w = pub.getW();
-            if (w == null || !curve.contains(w)) { // don't support keys with a point not on its indicated curve
+            if (w == null || !curve.containsAndRemember(w)) { // don't support keys with a point not on its indicated curve
                 curve = null;
             }
         }
@@ -105,6 +107,15 @@ public class ECCurve extends AbstractCurve {
 
     private final ECParameterSpec spec;
 
+    // Weierstrass curve constants, precomputed to avoid repeated lookups and casts during point validation:
+    private final BigInteger p;
+    private final BigInteger a;
+    private final BigInteger b;
+
+    // Bounded LRU cache of points already verified to be on this curve. Only successful validations are retained,
+    // and lookups compare both coordinates, so a cached result is always identical to a full validation result:
+    private final Map<ECPoint, Boolean> validatedPoints;
+
     public ECCurve(String id, String jcaName) {
         super(id, jcaName);
         JcaTemplate template = new JcaTemplate(KEY_PAIR_GENERATOR_JCA_NAME);
@@ -115,6 +126,16 @@ public class ECCurve extends AbstractCurve {
                 return params.getParameterSpec(ECParameterSpec.class);
             }
         });
+        EllipticCurve curve = this.spec.getCurve();
+        this.p = ((ECFieldFp) curve.getField()).getP();
+        this.a = curve.getA();
+        this.b = curve.getB();
+        this.validatedPoints = new LinkedHashMap<ECPoint, Boolean>(32, 0.75f, true) { // access order for LRU
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ECPoint, Boolean> eldest) {
+                return size() > VALIDATED_POINTS_CAPACITY;
+            }
+        };
     }
 
     public ECParameterSpec toParameterSpec() {
@@ -139,8 +160,45 @@ public class ECCurve extends AbstractCurve {
         return false;
     }
 
+    /**
+     * Returns {@code true} if this curve contains the specified {@code point}, {@code false} otherwise, without
+     * consulting or updating the points remembered by {@link #containsAndRemember(ECPoint)}. This must be used for
+     * points that are unlikely to be validated again, or that are chosen by an unauthenticated party, such as
+     * those of JWE {@code epk} (Ephemeral Public Key) values, so that they never evict remembered points.
+     *
+     * @param point a point that may or may not be defined on this elliptic curve
+     * @return {@code true} if this curve contains the specified {@code point}, {@code false} otherwise.
+     */
     boolean contains(ECPoint point) {
-        return contains(this.spec.getCurve(), point);
+        return point != null && !ECPoint.POINT_INFINITY.equals(point) && contains(this.p, this.a, this.b, point);
+    }
+
+    /**
+     * Returns {@code true} if this curve contains the specified {@code point}, {@code false} otherwise.  Points
+     * successfully validated by this method are remembered (up to {@link #VALIDATED_POINTS_CAPACITY} points) so that
+     * subsequent validations of the same point, for example, of an application's long-lived public key used for
+     * every JWE it encrypts, do not require any curve arithmetic.
+     *
+     * @param point a point that may or may not be defined on this elliptic curve
+     * @return {@code true} if this curve contains the specified {@code point}, {@code false} otherwise.
+     */
+    boolean containsAndRemember(ECPoint point) {
+        if (point == null || ECPoint.POINT_INFINITY.equals(point)) {
+            return false;
+        }
+        synchronized (this.validatedPoints) {
+            if (this.validatedPoints.containsKey(point)) {
+                return true;
+            }
+        }
+        boolean valid = contains(this.p, this.a, this.b, point);
+        if (valid) {
+            synchronized (this.validatedPoints) {
+                // copy to ensure the cache key is immutable regardless of the point's implementation class:
+                this.validatedPoints.put(new ECPoint(point.getAffineX(), point.getAffineY()), Boolean.TRUE);
+            }
+        }
+        return valid;
     }
 
     /**
@@ -161,9 +219,12 @@ public class ECCurve extends AbstractCurve {
         if (point == null || ECPoint.POINT_INFINITY.equals(point)) {
             return false;
         }
+        final BigInteger p = ((ECFieldFp) curve.getField()).getP();
+        return contains(p, curve.getA(), curve.getB(), point);
+    }
+
+    private static boolean contains(BigInteger p, BigInteger a, BigInteger b, ECPoint point) {
 
-        final BigInteger a = curve.getA();
-        final BigInteger b = curve.getB();
         final BigInteger x = point.getAffineX();
         final BigInteger y = point.getAffineY();
 
@@ -174,20 +235,26 @@ public class ECCurve extends AbstractCurve {
         // their application in cryptography, see
         // https://web.northeastern.edu/dummit/docs/cryptography_5_elliptic_curves_in_cryptography.pdf
 
-        final BigInteger p = ((ECFieldFp) curve.getField()).getP();
-
         // Verify the point coordinates are in field range:
         if (x.compareTo(BigInteger.ZERO) < 0 || x.compareTo(p) >= 0 ||
                 y.compareTo(BigInteger.ZERO) < 0 || y.compareTo(p) >= 0) {
             return false;
         }
 
-        // Finally, assert Weierstrass form equality:
-        final BigInteger lhs = y.modPow(TWO, p); //mod p to account for field prime
-        final BigInteger rhs = x.modPow(THREE, p).add(a.multiply(x)).add(b).mod(p); //mod p to account for field prime
+        // Finally, assert Weierstrass form equality. Plain multiplication is cheaper than modPow for such small
+        // exponents, and Horner's form x^3 + ax + b = (x^2 + a)x + b avoids a separate multiplication by 'a':
+        final BigInteger lhs = y.multiply(y).mod(p); //mod p to account for field prime
+        final BigInteger rhs = x.multiply(x).add(a).mod(p).multiply(x).add(b).mod(p); //mod p to account for field prime
         return lhs.equals(rhs);
     }
 
+    // visible for testing
+    boolean isValidated(ECPoint point) {
+        synchronized (this.validatedPoints) {
+            return this.validatedPoints.containsKey(point);
+        }
+    }
+
     /**
      * Multiply this curve's generator (aka 'base point') by scalar {@code s} on the curve.
      *
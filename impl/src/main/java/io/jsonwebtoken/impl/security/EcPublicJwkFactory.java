@@ -74,7 +74,7 @@ class EcPublicJwkFactory extends AbstractEcJwkFactory<ECPublicKey, EcPublicJwk>
         ECPoint point = key.getW();
 
         String curveId = getJwaIdByCurve(curve);
-        if (!ECCurve.contains(curve, point)) {
+        if (!getCurveByJwaId(curveId).contains(point)) {
             String msg = keyContainsErrorMessage(curveId);
             throw new InvalidKeyException(msg);
         }
@@ -101,18 +101,25 @@ class EcPublicJwkFactory extends AbstractEcJwkFactory<ECPublicKey, EcPublicJwk>
         ECCurve curve = getCurveByJwaId(curveId);
         ECPoint point = new ECPoint(x, y);
 
-        if (!curve.contains(point)) {
-            String msg = jwkContainsErrorMessage(curveId, ctx);
-            throw new InvalidKeyException(msg);
-        }
-
-        final ECPublicKeySpec pubSpec = new ECPublicKeySpec(point, curve.toParameterSpec());
-        ECPublicKey key = generateKey(ctx, new CheckedFunction<KeyFactory, ECPublicKey>() {
-            @Override
-            public ECPublicKey apply(KeyFactory kf) throws Exception {
-                return (ECPublicKey) kf.generatePublic(pubSpec);
+        // A cached key was created (below) from identical crv, x and y values, so its point has already been
+        // validated. Otherwise, the point is validated without being remembered by the curve, since JWK values,
+        // such as a JWE 'epk' header, may be single-use or chosen by an unauthenticated party:
+        String cacheId = PublicJwkKeyCache.id(ctx, DefaultEcPublicJwk.THUMBPRINT_PARAMS);
+        ECPublicKey key = PublicJwkKeyCache.INSTANCE.get(cacheId, ECPublicKey.class);
+        if (key == null) {
+            if (!curve.contains(point)) {
+                String msg = jwkContainsErrorMessage(curveId, ctx);
+                throw new InvalidKeyException(msg);
             }
-        });
+            final ECPublicKeySpec pubSpec = new ECPublicKeySpec(point, curve.toParameterSpec());
+            key = generateKey(ctx, new CheckedFunction<KeyFactory, ECPublicKey>() {
+                @Override
+                public ECPublicKey apply(KeyFactory kf) throws Exception {
+                    return (ECPublicKey) kf.generatePublic(pubSpec);
+                }
+            });
+            key = PublicJwkKeyCache.INSTANCE.share(cacheId, key);
+        }
 
         ctx.setKey(key);
 
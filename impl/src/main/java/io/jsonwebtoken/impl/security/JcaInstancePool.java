@@ -0,0 +1,248 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.security;
+
+import io.jsonwebtoken.impl.lang.LruCache;
+import io.jsonwebtoken.lang.Assert;
+import io.jsonwebtoken.lang.Collections;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.Provider;
+import java.security.Signature;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-thread pool of JCA {@link Cipher}, {@link Mac}, {@link MessageDigest} and {@link Signature} engine instances,
+ * keyed by engine class, JCA algorithm name and {@link Provider}.
+ *
+ * <p>Engine instances are <em>taken</em> from the calling thread's pool (removing them) for the duration of a single
+ * {@link JcaTemplate} callback and are <em>released</em> back only if that callback completes successfully. An
+ * instance is therefore never visible to more than one thread or callback at a time, nested callbacks for the
+ * same engine simply obtain a new instance, and an engine left in an indeterminate state by an exception is
+ * discarded instead of reused.  Every JJWT callback (re-)initializes its engine with {@code init}, {@code initSign}
+ * or {@code initVerify} before use, which fully resets any state remaining from a previous use, and released
+ * {@code MessageDigest}s are always {@link MessageDigest#reset() reset}.</p>
+ *
+ * <p>{@code Cipher}, {@code Mac} and {@code Signature} instances obtained without a {@code Provider} select their
+ * provider when first initialized with a key and retain it thereafter, so a pooled instance may reject a key only
+ * supported by a different provider (e.g. an HSM key). {@link JcaTemplate} therefore treats an
+ * {@code InvalidKeyException} from such a pooled instance as a pool miss and retries with a new instance.</p>
+ *
+ * <p>Each thread retains at most {@link #MAX_THREAD_INSTANCES} engines.</p>
+ *
+ * <p><b>Primed MACs</b></p>
+ *
+ * <p>A pool may also be created with a {@code primedMacCapacity} greater than zero. In that case it retains a small
+ * LRU cache of {@link Mac} prototypes that have already been {@link Mac#init(Key) initialized} with a specific key,
+ * keyed by JCA name, {@code Provider} and key <em>identity</em>. Subsequent uses of the same key receive a
+ * {@link Mac#clone() clone} of the prototype, avoiding the per-use HMAC key schedule. Prototypes are never used
+ * directly. If a provider's {@code Mac} does not support cloning, that JCA name and provider combination simply
+ * falls back to {@code init} for every use. Keys remain strongly reachable until their prototype is evicted.</p>
+ *
+ * @since 0.12.6
+ */
+public class JcaInstancePool {
+
+    /**
+     * Shared pool instance that pools engines per-thread, but does not retain primed MACs.
+     */
+    public static final JcaInstancePool INSTANCE = new JcaInstancePool(true, 0);
+
+    static final int MAX_THREAD_INSTANCES = 32;
+
+    private static final Set<Class<?>> POOLABLE =
+            Collections.<Class<?>>setOf(Cipher.class, Mac.class, MessageDigest.class, Signature.class);
+
+    private static final ThreadLocal<Map<Id, Object>> INSTANCES = new ThreadLocal<Map<Id, Object>>() {
+        @Override
+        protected Map<Id, Object> initialValue() {
+            return new HashMap<>();
+        }
+    };
+
+    private final boolean engines;
+
+    private final LruCache<Id, Mac> primedMacs; // null if disabled
+
+    private final ConcurrentMap<Id, Boolean> uncloneable = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new pool.
+     *
+     * @param engines           whether engine instances should be pooled per-thread
+     * @param primedMacCapacity the maximum number of key-initialized {@link Mac} prototypes to retain, or zero to
+     *                          disable primed MACs.
+     */
+    public JcaInstancePool(boolean engines, int primedMacCapacity) {
+        Assert.isTrue(primedMacCapacity >= 0, "primedMacCapacity cannot be negative.");
+        this.engines = engines;
+        this.primedMacs = primedMacCapacity == 0 ? null : new LruCache<Id, Mac>(primedMacCapacity);
+    }
+
+    boolean supports(Class<?> clazz) {
+        return this.engines && clazz != null && POOLABLE.contains(clazz);
+    }
+
+    boolean isPrimingMacs() {
+        return this.primedMacs != null;
+    }
+
+    /**
+     * Returns a clone of the {@link Mac} prototype previously {@link #prime(String, Provider, Key, Mac) primed} for
+     * the specified key, or {@code null} if there isn't one.
+     *
+     * @param jcaName  the JCA algorithm name
+     * @param provider the provider specified when the prototype was obtained, or {@code null} for the JCA default
+     *                 provider
+     * @param key      the key used to initialize the prototype
+     * @return a key-initialized clone of the primed prototype, or {@code null} if there isn't one.
+     */
+    Mac primed(String jcaName, Provider provider, Key key) {
+        if (this.primedMacs == null) {
+            return null;
+        }
+        Mac prototype = this.primedMacs.get(new Id(Mac.class, jcaName, provider, key));
+        if (prototype == null) {
+            return null;
+        }
+        try {
+            synchronized (prototype) {
+                return (Mac) prototype.clone();
+            }
+        } catch (CloneNotSupportedException e) { // can't happen: verified by prime(), but just in case:
+            return null;
+        }
+    }
+
+    /**
+     * Retains a clone of the specified {@link Mac}, which must already be initialized with {@code key}, to satisfy
+     * subsequent {@link #primed(String, Provider, Key) primed} calls for the same key. This is a no-op if primed MACs
+     * are disabled or if the Mac cannot be cloned.
+     *
+     * @param jcaName  the JCA algorithm name
+     * @param provider the provider specified when the Mac was obtained, or {@code null} for the JCA default provider
+     * @param key      the key used to initialize the Mac
+     * @param mac      the initialized Mac to clone, which must not have been updated yet
+     */
+    void prime(String jcaName, Provider provider, Key key, Mac mac) {
+        if (this.primedMacs == null) {
+            return;
+        }
+        Id cloneId = new Id(Mac.class, jcaName, provider, null);
+        if (this.uncloneable.containsKey(cloneId)) {
+            return;
+        }
+        Mac prototype;
+        try {
+            prototype = (Mac) mac.clone();
+        } catch (CloneNotSupportedException e) {
+            this.uncloneable.putIfAbsent(cloneId, Boolean.TRUE); // don't try again, always fall back to init
+            return;
+        }
+        this.primedMacs.put(new Id(Mac.class, jcaName, provider, key), prototype);
+    }
+
+    /**
+     * Removes and returns the calling thread's pooled engine instance for the specified type, name and provider, or
+     * {@code null} if there isn't one.
+     *
+     * @param clazz    the engine type
+     * @param jcaName  the JCA algorithm name
+     * @param provider the provider that created the instance, or {@code null} for the JCA default provider
+     * @param <T>      engine type
+     * @return the pooled instance or {@code null} if there isn't one.
+     */
+    <T> T take(Class<T> clazz, String jcaName, Provider provider) {
+        Object instance = INSTANCES.get().remove(new Id(clazz, jcaName, provider, null));
+        return instance != null ? clazz.cast(instance) : null;
+    }
+
+    /**
+     * Returns an engine instance to the calling thread's pool so it may be reused by a subsequent {@link #take} call.
+     *
+     * @param clazz    the engine type
+     * @param jcaName  the JCA algorithm name
+     * @param provider the provider specified when the instance was obtained, or {@code null} for the JCA default
+     *                 provider
+     * @param instance the instance to release
+     */
+    void release(Class<?> clazz, String jcaName, Provider provider, Object instance) {
+        Assert.isInstanceOf(clazz, instance, "Pooled instance does not match expected type.");
+        if (instance instanceof Mac) {
+            ((Mac) instance).reset(); // discard any partial (un-finalized) input
+        } else if (instance instanceof MessageDigest) {
+            ((MessageDigest) instance).reset();
+        }
+        Map<Id, Object> instances = INSTANCES.get();
+        Id id = new Id(clazz, jcaName, provider, null);
+        if (instances.containsKey(id) || instances.size() < MAX_THREAD_INSTANCES) {
+            instances.put(id, instance);
+        }
+    }
+
+    // visible for testing
+    static void clear() {
+        INSTANCES.remove();
+    }
+
+    private static final class Id {
+
+        private final Class<?> clazz;
+        private final String jcaName;
+        private final Provider provider;
+        private final Key key;
+        private final int hashCode;
+
+        private Id(Class<?> clazz, String jcaName, Provider provider, Key key) {
+            this.clazz = Assert.notNull(clazz, "Class cannot be null.");
+            this.jcaName = Assert.hasText(jcaName, "jcaName cannot be null or empty.");
+            this.provider = provider;
+            this.key = key;
+            int hash = clazz.hashCode();
+            hash = 31 * hash + jcaName.hashCode();
+            // identity only: Provider extends Properties, and Properties#hashCode/equals iterate all entries
+            hash = 31 * hash + System.identityHashCode(provider);
+            // identity only: a key is never assumed to be equivalent to any other key instance
+            hash = 31 * hash + System.identityHashCode(key);
+            this.hashCode = hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Id) {
+                Id other = (Id) obj;
+                return this.clazz == other.clazz && this.provider == other.provider && this.key == other.key &&
+                        this.jcaName.equals(other.jcaName);
+            }
+            return false;
+        }
+    }
+}
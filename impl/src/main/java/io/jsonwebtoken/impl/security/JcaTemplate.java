@@ -41,6 +41,7 @@ import java.io.InputStream;
 import java.security.AlgorithmParameters;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
+import java.security.Key;
 import java.security.KeyFactory;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
@@ -50,6 +51,7 @@ import java.security.PrivateKey;
 import java.security.Provider;
 import java.security.PublicKey;
 import java.security.SecureRandom;
+import java.security.Security;
 import java.security.Signature;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
@@ -59,6 +61,7 @@ import java.security.spec.InvalidKeySpecException;
 import java.security.spec.KeySpec;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -95,6 +98,7 @@ public class JcaTemplate {
     private final String jcaName;
     private final Provider provider;
     private final SecureRandom secureRandom;
+    private final JcaInstancePool pool;
 
     JcaTemplate(String jcaName) {
         this(jcaName, null);
@@ -105,19 +109,46 @@ public class JcaTemplate {
     }
 
     JcaTemplate(String jcaName, Provider provider, SecureRandom secureRandom) {
+        this(jcaName, provider, secureRandom, null);
+    }
+
+    JcaTemplate(String jcaName, Provider provider, SecureRandom secureRandom, JcaInstancePool pool) {
         this.jcaName = Assert.hasText(jcaName, "jcaName string cannot be null or empty.");
         this.secureRandom = secureRandom != null ? secureRandom : Randoms.secureRandom();
         this.provider = provider; //may be null, meaning to use the JCA subsystem default provider
+        this.pool = pool; //may be null, meaning a new instance is obtained for every callback
     }
 
     private <T, R> R execute(Class<T> clazz, CheckedFunction<T, R> callback, Provider provider) throws Exception {
         InstanceFactory<?> factory = REGISTRY.get(clazz);
         Assert.notNull(factory, "Unsupported JCA instance class.");
 
-        Object object = factory.get(this.jcaName, provider);
+        final boolean pooled = this.pool != null && this.pool.supports(clazz);
+        Object object = pooled ? this.pool.take(clazz, this.jcaName, provider) : null;
+        final boolean reused = object != null;
+        if (object == null) {
+            object = factory.get(this.jcaName, provider);
+        }
         T instance = Assert.isInstanceOf(clazz, object, "Factory instance does not match expected type.");
 
-        return callback.apply(instance);
+        R result;
+        try {
+            result = callback.apply(instance);
+        } catch (InvalidKeyException e) {
+            if (!reused || provider != null) {
+                throw e;
+            }
+            // A pooled engine obtained without a provider remains bound to the provider selected for the first key
+            // it was initialized with, which might not support this key (e.g. an HSM key), so treat it as a pool
+            // miss. Keys are rejected during initialization, before the callback consumes any input:
+            object = factory.get(this.jcaName, null);
+            instance = Assert.isInstanceOf(clazz, object, "Factory instance does not match expected type.");
+            result = callback.apply(instance);
+        }
+        if (pooled) { // only reached if the callback succeeded, so the instance is safe to reuse:
+            this.pool.release(clazz, this.jcaName, provider, instance);
+        }
+        return result;
     }
 
     private <T> T execute(Class<?> clazz, CheckedSupplier<T> fn) throws SecurityException {
@@ -140,6 +171,18 @@ public class JcaTemplate {
         });
     }
 
+    /**
+     * Returns the provider used to obtain instances of the specified type: the explicitly specified provider if
+     * there is one, otherwise the concrete provider previously resolved for this template's JCA name (if any).
+     */
+    private Provider getProvider(Class<?> clazz) {
+        if (this.provider != null) {
+            return this.provider;
+        }
+        InstanceFactory<?> factory = REGISTRY.get(clazz);
+        return factory != null ? factory.getResolvedProvider(this.jcaName) : null;
+    }
+
     protected <T, R> R fallback(final Class<T> clazz, final CheckedFunction<T, R> callback) throws SecurityException {
         return execute(clazz, new CheckedSupplier<R>() {
             @Override
@@ -149,7 +192,8 @@ public class JcaTemplate {
                 } catch (Exception e) {
                     try { // fallback
                         Provider bc = findBouncyCastle();
-                        if (bc != null) {
+                        // no need to re-execute if the callback was already given a BouncyCastle instance:
+                        if (bc != null && bc != getProvider(clazz)) {
                             return execute(clazz, callback, bc);
                         }
                     } catch (Throwable ignored) { // report original exception instead
@@ -196,6 +240,42 @@ public class JcaTemplate {
         return execute(Mac.class, fn);
     }
 
+    /**
+     * Invokes the specified callback with a {@link Mac} already {@link Mac#init(Key) initialized} with the specified
+     * key.  If this template's {@link JcaInstancePool} retains primed MACs, the Mac may be a clone of a previously
+     * initialized prototype for the same key instance instead of a newly initialized one.
+     *
+     * @param key the key to use to initialize the Mac
+     * @param fn  the callback to invoke with the initialized Mac
+     * @param <R> the callback return type
+     * @return the callback result
+     * @throws SecurityException if the callback fails
+     */
+    public <R> R withMac(final Key key, final CheckedFunction<Mac, R> fn) throws SecurityException {
+        Assert.notNull(key, "Mac key cannot be null.");
+        final JcaInstancePool pool = this.pool;
+        final boolean priming = pool != null && pool.isPrimingMacs();
+        final Mac primed = priming ? pool.primed(this.jcaName, this.provider, key) : null;
+        if (primed != null) {
+            return execute(Mac.class, new CheckedSupplier<R>() {
+                @Override
+                public R get() throws Exception {
+                    return fn.apply(primed);
+                }
+            });
+        }
+        return withMac(new CheckedFunction<Mac, R>() {
+            @Override
+            public R apply(Mac mac) throws Exception {
+                mac.init(key);
+                if (priming) {
+                    pool.prime(jcaName, provider, key, mac);
+                }
+                return fn.apply(mac);
+            }
+        });
+    }
+
     public <R> R withAlgorithmParameters(CheckedFunction<AlgorithmParameters, R> fn) throws SecurityException {
         return execute(AlgorithmParameters.class, fn);
     }
@@ -343,17 +423,36 @@ public class JcaTemplate {
         Class<T> getInstanceClass();
 
         T get(String jcaName, Provider provider) throws Exception;
+
+        /**
+         * Returns the concrete {@code Provider} previously resolved for the specified JCA name when no provider is
+         * specified, or {@code null} if the name hasn't been resolved yet or resolution is delegated to the JCA
+         * default provider selection.
+         *
+         * @param jcaName the JCA algorithm name
+         * @return the resolved provider or {@code null}.
+         */
+        Provider getResolvedProvider(String jcaName);
     }
 
     private static abstract class JcaInstanceFactory<T> implements InstanceFactory<T> {
 
+        // Engines that, when obtained without a provider, defer provider selection until they are initialized with
+        // a key. We retain that behavior (e.g. for HSM keys) by never pinning them to a default-list provider:
+        private static final Set<Class<?>> DELAYED_SELECTION =
+                Collections.<Class<?>>setOf(Cipher.class, KeyAgreement.class, Mac.class, Signature.class);
+
         private final Class<T> clazz;
 
-        // Boolean value: missing/null = haven't attempted, true = attempted and succeeded, false = attempted and failed
-        private final ConcurrentMap<String, Boolean> FALLBACK_ATTEMPTS = new ConcurrentHashMap<>();
+        private final boolean delayedSelection;
+
+        // JCA name -> how instances are obtained when no provider is specified. Failed resolutions are retained too,
+        // so the provider list scan and BouncyCastle fallback are attempted at most once per name:
+        private final ConcurrentMap<String, Resolution> resolved = new ConcurrentHashMap<>();
 
         JcaInstanceFactory(Class<T> clazz) {
             this.clazz = Assert.notNull(clazz, "Class argument cannot be null.");
+            this.delayedSelection = DELAYED_SELECTION.contains(clazz);
         }
 
         @Override
@@ -371,44 +470,109 @@ public class JcaTemplate {
             return Providers.findBouncyCastle();
         }
 
-        @SuppressWarnings("GrazieInspection")
+        // visible for testing
+        protected Provider[] getProviders() {
+            return Security.getProviders();
+        }
+
+        // visible for testing
+        Resolution getResolution(String jcaName) {
+            return this.resolved.get(jcaName);
+        }
+
+        @Override
+        public Provider getResolvedProvider(String jcaName) {
+            Resolution resolution = this.resolved.get(jcaName);
+            return resolution != null ? resolution.provider : null;
+        }
+
         @Override
         public final T get(String jcaName, final Provider specifiedProvider) throws Exception {
             Assert.hasText(jcaName, "jcaName cannot be null or empty.");
             Provider provider = specifiedProvider;
-            final Boolean attempted = FALLBACK_ATTEMPTS.get(jcaName);
-            if (provider == null && attempted != null && attempted) {
-                // We tried with the default provider previously, and needed to fallback, so just
-                // preemptively load the fallback to avoid the fallback/retry again:
-                provider = findBouncyCastle();
+            if (provider == null) {
+                Resolution resolution = this.resolved.get(jcaName);
+                if (resolution == null) {
+                    return resolve(jcaName);
+                }
+                provider = resolution.provider;
             }
             try {
                 return doGet(jcaName, provider);
-            } catch (NoSuchAlgorithmException nsa) { // try to fallback if possible
-
-                if (specifiedProvider == null && attempted == null) { // default provider doesn't support the alg name,
-                    // and we haven't tried BC yet, so try that now:
-                    Provider fallback = findBouncyCastle();
-                    if (fallback != null) { // BC found, try again:
-                        try {
-                            T value = doGet(jcaName, fallback);
-                            // record the successful attempt so we don't have to do this again:
-                            FALLBACK_ATTEMPTS.putIfAbsent(jcaName, Boolean.TRUE);
-                            return value;
-                        } catch (Throwable ignored) {
-                            // record the failed attempt so we don't keep trying and propagate original exception:
-                            FALLBACK_ATTEMPTS.putIfAbsent(jcaName, Boolean.FALSE);
-                        }
-                    }
-                }
-                // otherwise, we tried the fallback, or there isn't a fallback, so no need to try again, so
-                // propagate the exception:
-                throw wrap(nsa, jcaName, specifiedProvider, null);
             } catch (Exception e) {
                 throw wrap(e, jcaName, specifiedProvider, null);
             }
         }
 
+        private Provider.Service findService(String jcaName, Provider... providers) {
+            String type = getId(); // JCA service type names are the same as the engine class names
+            String alg = jcaName;
+            int i = jcaName.indexOf('/');
+            if (i > 0 && Cipher.class.equals(this.clazz)) {
+                // Cipher services are registered by algorithm with supported modes and paddings as attributes, not
+                // by full transformation name. Cipher.getInstance verifies mode and padding below:
+                alg = jcaName.substring(0, i);
+            }
+            for (Provider provider : providers) {
+                Provider.Service service = provider.getService(type, jcaName);
+                if (service == null && !alg.equals(jcaName)) {
+                    service = provider.getService(type, alg);
+                }
+                if (service != null) {
+                    return service;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Resolves the provider for the specified JCA name when no provider has been specified, trying the
+         * registered JCA providers first and then BouncyCastle if available. The outcome is retained either way, so
+         * subsequent instances are created without provider list iteration or exception-driven fallback. Names that
+         * could not be resolved are thereafter left to the JCA default provider selection only.
+         *
+         * @param jcaName the JCA algorithm name
+         * @return a new instance obtained from the resolved provider
+         * @throws Exception if the name cannot be resolved by any available provider
+         */
+        private T resolve(String jcaName) throws Exception {
+            Exception cause = null;
+            Provider.Service service = findService(jcaName, getProviders());
+            if (service != null) {
+                Provider provider = this.delayedSelection ? null : service.getProvider();
+                try {
+                    T instance = doGet(jcaName, provider);
+                    this.resolved.putIfAbsent(jcaName, new Resolution(provider));
+                    return instance;
+                } catch (Exception e) { // unsupported mode or padding, etc, try the fallback below
+                    cause = e;
+                }
+            }
+
+            Provider fallback = findBouncyCastle();
+            if (fallback != null && findService(jcaName, fallback) != null) {
+                try {
+                    T instance = doGet(jcaName, fallback);
+                    this.resolved.putIfAbsent(jcaName, new Resolution(fallback));
+                    return instance;
+                } catch (Throwable ignored) { // report the default provider exception instead
+                }
+            }
+
+            if (cause == null) { // no provider advertises the name, so let the JCA report (or resolve) it directly:
+                try {
+                    T instance = doGet(jcaName, null);
+                    this.resolved.putIfAbsent(jcaName, Resolution.DEFAULT);
+                    return instance;
+                } catch (Exception e) {
+                    cause = e;
+                }
+            }
+            // record the failed attempt so we don't keep trying and propagate the original exception:
+            this.resolved.putIfAbsent(jcaName, Resolution.DEFAULT);
+            throw wrap(cause, jcaName, null, null);
+        }
+
         protected abstract T doGet(String jcaName, Provider provider) throws Exception;
 
         // visible for testing:
@@ -434,6 +598,18 @@ public class JcaTemplate {
         }
     }
 
+    static final class Resolution {
+
+        // instances are obtained via JCA default provider selection:
+        static final Resolution DEFAULT = new Resolution(null);
+
+        final Provider provider; // null if instances are obtained via JCA default provider selection
+
+        private Resolution(Provider provider) {
+            this.provider = provider;
+        }
+    }
+
     private static class CipherFactory extends JcaInstanceFactory<Cipher> {
         CipherFactory() {
             super(Cipher.class);
@@ -15,6 +15,7 @@
  */
 package io.jsonwebtoken.impl.security;
 
+import io.jsonwebtoken.impl.lang.ConcurrentTasks;
 import io.jsonwebtoken.impl.lang.Converter;
 import io.jsonwebtoken.impl.lang.Parameter;
 import io.jsonwebtoken.lang.Assert;
@@ -27,11 +28,14 @@ import io.jsonwebtoken.security.KeyException;
 import io.jsonwebtoken.security.MalformedKeySetException;
 import io.jsonwebtoken.security.UnsupportedKeyException;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 public class JwkSetConverter implements Converter<JwkSet, Object> {
 
@@ -40,6 +44,8 @@ public class JwkSetConverter implements Converter<JwkSet, Object> {
 
     private final boolean ignoreUnsupported;
 
+    private final Executor executor; // null if JWKs should be converted sequentially on the calling thread
+
     public JwkSetConverter() {
         // ignore is true by default per https://www.rfc-editor.org/rfc/rfc7517.html#section-5:
         this(JwkBuilderSupplier.DEFAULT, true);
@@ -54,9 +60,18 @@ public class JwkSetConverter implements Converter<JwkSet, Object> {
     }
 
     public JwkSetConverter(Converter<Jwk<?>, Object> jwkConverter, boolean ignoreUnsupported) {
+        this(jwkConverter, ignoreUnsupported, null);
+    }
+
+    public JwkSetConverter(Supplier<DynamicJwkBuilder<?, ?>> supplier, boolean ignoreUnsupported, Executor executor) {
+        this(new JwkConverter<>(supplier), ignoreUnsupported, executor);
+    }
+
+    public JwkSetConverter(Converter<Jwk<?>, Object> jwkConverter, boolean ignoreUnsupported, Executor executor) {
         this.JWK_CONVERTER = Assert.notNull(jwkConverter, "JWK converter cannot be null.");
         this.PARAM = DefaultJwkSet.param(jwkConverter);
         this.ignoreUnsupported = ignoreUnsupported;
+        this.executor = executor;
     }
 
     public boolean isIgnoreUnsupported() {
@@ -118,11 +133,15 @@ public class JwkSetConverter implements Converter<JwkSet, Object> {
             src.put(skey, entry.getValue());
         }
 
+        Collection<?> candidates = (Collection<?>) val;
+        // when converting concurrently, results (JWKs or exceptions) are still processed below in element order:
+        Object[] converted = this.executor != null && size > 1 ? convertAll(candidates) : null;
+
         Set<Jwk<?>> jwks = new LinkedHashSet<>(size);
         int i = 0; // keep track of which element fails (if any)
-        for (Object candidate : ((Collection<?>) val)) {
+        for (Object candidate : candidates) {
             try {
-                Jwk<?> jwk = JWK_CONVERTER.applyFrom(candidate);
+                Jwk<?> jwk = converted != null ? result(converted[i]) : JWK_CONVERTER.applyFrom(candidate);
                 jwks.add(jwk);
             } catch (UnsupportedKeyException e) {
                 if (!ignoreUnsupported) {
@@ -143,4 +162,40 @@ public class JwkSetConverter implements Converter<JwkSet, Object> {
         src.put(PARAM.getId(), jwks);
         return new DefaultJwkSet(PARAM, src);
     }
+
+    private static Jwk<?> result(Object converted) {
+        if (converted instanceof RuntimeException) {
+            throw (RuntimeException) converted;
+        }
+        return (Jwk<?>) converted;
+    }
+
+    /**
+     * Converts all candidates concurrently on this converter's executor, returning an array in element order where
+     * each value is either the converted {@code Jwk} or the {@code RuntimeException} thrown while converting it.
+     * The calling thread also converts any candidates the executor has not started converting.
+     *
+     * @param candidates the JWK Set {@code keys} elements to convert
+     * @return the converted JWKs or conversion exceptions, in element order
+     */
+    private Object[] convertAll(Collection<?> candidates) {
+        final Object[] results = new Object[candidates.size()];
+        List<Runnable> tasks = new ArrayList<>(results.length);
+        int i = 0;
+        for (final Object candidate : candidates) {
+            final int index = i++;
+            tasks.add(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        results[index] = JWK_CONVERTER.applyFrom(candidate);
+                    } catch (RuntimeException e) {
+                        results[index] = e;
+                    }
+                }
+            });
+        }
+        ConcurrentTasks.runAll(tasks, this.executor, "Interrupted while waiting for JWK Set keys to be converted.");
+        return results;
+    }
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.security;
+
+import io.jsonwebtoken.Identifiable;
+import io.jsonwebtoken.JwtParserBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.impl.io.Streams;
+import io.jsonwebtoken.io.CompressionAlgorithm;
+import io.jsonwebtoken.lang.Assert;
+import io.jsonwebtoken.lang.Collections;
+import io.jsonwebtoken.lang.Objects;
+import io.jsonwebtoken.lang.Strings;
+import io.jsonwebtoken.security.AeadAlgorithm;
+import io.jsonwebtoken.security.KeyAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.MacAlgorithm;
+import io.jsonwebtoken.security.SecretKeyAlgorithm;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+
+import javax.crypto.SecretKey;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Implementation of {@link Jwts#warmUp(Identifiable...)}: performs JJWT's lazy one-time initialization eagerly by
+ * creating and parsing throwaway JWTs.
+ *
+ * @since 0.12.6
+ */
+public final class JwtWarmUp {
+
+    static final String PROVIDERS = "providers";
+    static final String JSON = "json";
+
+    private static final String SUBJECT = "warm-up";
+    private static final AeadAlgorithm DEFAULT_ENC = Jwts.ENC.A128GCM; // used to exercise key algorithms
+
+    private JwtWarmUp() {
+    }
+
+    /**
+     * Warms up JSON processing and each specified algorithm, returning the elapsed nanoseconds of each step in
+     * execution order.
+     *
+     * @param algs the algorithms to exercise, may be empty
+     * @return the elapsed nanoseconds of each step, keyed by step name, in execution order.
+     */
+    public static Map<String, Long> warmUp(Identifiable[] algs) {
+        Map<String, Long> report = new LinkedHashMap<>();
+
+        long start = System.nanoTime();
+        Providers.findBouncyCastle(); // resolves (or rules out) the fallback JCA provider
+        report.put(PROVIDERS, System.nanoTime() - start);
+
+        start = System.nanoTime();
+        String jwt = Jwts.builder().subject(SUBJECT).compact(); // loads the JSON Serializer
+        Jwts.parser().unsecured().build().parseUnsecuredClaims(jwt); // loads the JSON Deserializer
+        report.put(JSON, System.nanoTime() - start);
+
+        for (Identifiable alg : algs != null ? algs : new Identifiable[0]) {
+            Assert.notNull(alg, "Algorithms cannot contain null elements.");
+            start = System.nanoTime();
+            exercise(alg);
+            report.put(alg.getId(), System.nanoTime() - start);
+        }
+
+        return Collections.immutable(report);
+    }
+
+    private static void exercise(Identifiable alg) {
+        if (alg instanceof MacAlgorithm) {
+            MacAlgorithm mac = (MacAlgorithm) alg;
+            SecretKey key = mac.key().build();
+            String jws = Jwts.builder().subject(SUBJECT).signWith(key, mac).compact();
+            Jwts.parser().verifyWith(key).build().parseSignedClaims(jws);
+        } else if (alg instanceof SignatureAlgorithm) {
+            SignatureAlgorithm sig = (SignatureAlgorithm) alg;
+            KeyPair pair = sig.keyPair().build();
+            String jws = Jwts.builder().subject(SUBJECT).signWith(pair.getPrivate(), sig).compact();
+            Jwts.parser().verifyWith(pair.getPublic()).build().parseSignedClaims(jws);
+        } else if (alg instanceof SecureDigestAlgorithm && Jwts.SIG.NONE.getId().equals(alg.getId())) {
+            Jwts.parser().unsecured().build().parseUnsecuredClaims(Jwts.builder().subject(SUBJECT).compact());
+        } else if (alg instanceof AeadAlgorithm) {
+            AeadAlgorithm enc = (AeadAlgorithm) alg;
+            SecretKey key = enc.key().build();
+            String jwe = Jwts.builder().subject(SUBJECT).encryptWith(key, enc).compact();
+            Jwts.parser().decryptWith(key).build().parseEncryptedClaims(jwe);
+        } else if (alg instanceof KeyAlgorithm) {
+            exercise((KeyAlgorithm<?, ?>) alg);
+        } else if (alg instanceof CompressionAlgorithm) {
+            exercise((CompressionAlgorithm) alg);
+        } else {
+            String msg = "Unable to warm up unsupported algorithm type " + alg.getClass().getName() + ".";
+            throw new IllegalArgumentException(msg);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void exercise(KeyAlgorithm<?, ?> alg) {
+        Key encryptionKey;
+        Key decryptionKey;
+        if (alg instanceof DirectKeyAlgorithm) {
+            encryptionKey = decryptionKey = DEFAULT_ENC.key().build();
+        } else if (alg instanceof SecretKeyAlgorithm) {
+            encryptionKey = decryptionKey = ((SecretKeyAlgorithm) alg).key().build();
+        } else if (alg instanceof DefaultRsaKeyAlgorithm) {
+            KeyPair pair = Jwts.SIG.RS256.keyPair().build();
+            encryptionKey = pair.getPublic();
+            decryptionKey = pair.getPrivate();
+        } else if (alg instanceof EcdhKeyAlgorithm) {
+            KeyPair pair = Jwts.SIG.ES256.keyPair().build();
+            encryptionKey = pair.getPublic();
+            decryptionKey = pair.getPrivate();
+        } else if (alg instanceof Pbes2HsAkwAlgorithm) {
+            encryptionKey = decryptionKey = Keys.password(SUBJECT.toCharArray());
+        } else {
+            String msg = "Unable to warm up non-standard key algorithm '" + alg.getId() + "'.";
+            throw new IllegalArgumentException(msg);
+        }
+        String jwe = Jwts.builder().subject(SUBJECT)
+                .encryptWith(encryptionKey, (KeyAlgorithm<Key, ?>) alg, DEFAULT_ENC).compact();
+        JwtParserBuilder parser = Jwts.parser();
+        if (decryptionKey instanceof SecretKey) {
+            parser.decryptWith((SecretKey) decryptionKey);
+        } else {
+            parser.decryptWith((PrivateKey) decryptionKey);
+        }
+        parser.build().parseEncryptedClaims(jwe);
+    }
+
+    private static void exercise(CompressionAlgorithm zip) {
+        byte[] data = Strings.utf8(SUBJECT);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        OutputStream out = zip.compress(compressed);
+        InputStream in = null;
+        try {
+            out.write(data);
+            out.close();
+            in = zip.decompress(Streams.of(compressed.toByteArray()));
+            Streams.bytes(in, "Unable to decompress warm-up data");
+        } catch (IOException e) {
+            String msg = "Unable to warm up compression algorithm '" + zip.getId() + "': " + e.getMessage();
+            throw new IllegalStateException(msg, e);
+        } finally {
+            Objects.nullSafeClose(in);
+        }
+    }
+}
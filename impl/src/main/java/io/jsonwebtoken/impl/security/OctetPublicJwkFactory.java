@@ -48,7 +48,11 @@ public class OctetPublicJwkFactory extends OctetJwkFactory<PublicKey, OctetPubli
         EdwardsCurve curve = getCurve(reader);
         byte[] x = reader.get(DefaultOctetPublicJwk.X);
         //TODO: assert that the curve contains the specified key
-        PublicKey key = curve.toPublicKey(x, ctx.getProvider());
+        String cacheId = PublicJwkKeyCache.id(ctx, DefaultOctetPublicJwk.THUMBPRINT_PARAMS);
+        PublicKey key = PublicJwkKeyCache.INSTANCE.get(cacheId, PublicKey.class);
+        if (key == null) {
+            key = PublicJwkKeyCache.INSTANCE.share(cacheId, curve.toPublicKey(x, ctx.getProvider()));
+        }
         ctx.setKey(key);
         return new DefaultOctetPublicJwk<>(ctx);
     }
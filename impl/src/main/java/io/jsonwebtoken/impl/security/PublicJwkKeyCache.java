@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.security;
+
+import io.jsonwebtoken.impl.lang.Parameter;
+import io.jsonwebtoken.impl.lang.WeakCache;
+import io.jsonwebtoken.lang.Assert;
+
+import java.security.PublicKey;
+import java.util.List;
+
+/**
+ * Process-wide cache of {@link PublicKey} instances created from public JWK parameter values, keyed by the JWK's
+ * canonical <a href="https://www.rfc-editor.org/rfc/rfc7638#section-3.2">RFC 7638 thumbprint JSON</a>. This allows
+ * identical public JWKs, such as those obtained from repeated JWK Set fetches, to share a single JCA key instance
+ * instead of each incurring a {@code KeyFactory} invocation.
+ *
+ * <p>Keys are only <em>weakly</em> referenced, so a cached key is retained only as long as at least one JWK (or
+ * other application object) still references it, and at most {@link #CAPACITY} keys are cached.  Only public keys
+ * created with the JCA default provider are cached: public key material is by definition fully described by the
+ * thumbprint parameters, whereas private keys are not and are therefore never shared.</p>
+ *
+ * @since 0.12.6
+ */
+final class PublicJwkKeyCache {
+
+    static final PublicJwkKeyCache INSTANCE = new PublicJwkKeyCache();
+
+    static final int CAPACITY = 256;
+
+    private final WeakCache<String, PublicKey> keys = WeakCache.of(CAPACITY);
+
+    /**
+     * Returns the cache id for a public JWK's key, or {@code null} if the key may not be shared because the JWK
+     * context specifies a JCA Provider.
+     *
+     * @param ctx              the public JWK context containing the canonical JWK parameter values
+     * @param thumbprintParams the JWK type's thumbprint parameters
+     * @return the cache id for a public JWK's key, or {@code null} if the key may not be shared.
+     */
+    static String id(JwkContext<?> ctx, List<Parameter<?>> thumbprintParams) {
+        return ctx.getProvider() != null ? null : AbstractJwk.toThumbprintJson(ctx, thumbprintParams);
+    }
+
+    /**
+     * Returns the cached key for the specified id, or {@code null} if there isn't one or it is not of the specified
+     * type.
+     *
+     * @param id   the cache id, may be {@code null}
+     * @param type the expected key type
+     * @param <K>  the expected key type
+     * @return the cached key for the specified id, or {@code null} if there isn't one.
+     */
+    <K extends PublicKey> K get(String id, Class<K> type) {
+        PublicKey key = this.keys.get(id);
+        return type.isInstance(key) ? type.cast(key) : null;
+    }
+
+    /**
+     * Caches the specified key if there is not already a cached key for the same id, returning whichever key
+     * should be used by the caller.
+     *
+     * @param id  the cache id, may be {@code null}, in which case {@code key} is returned unchanged
+     * @param key the newly created key
+     * @param <K> the key type
+     * @return the previously cached key for {@code id} if one exists and is the same type, otherwise {@code key}.
+     */
+    <K extends PublicKey> K share(String id, K key) {
+        Assert.notNull(key, "PublicKey cannot be null.");
+        if (id == null) {
+            return key;
+        }
+        PublicKey existing = this.keys.get(id);
+        if (existing != null && existing.getClass() == key.getClass()) {
+            @SuppressWarnings("unchecked") K shared = (K) existing;
+            return shared;
+        }
+        this.keys.put(id, key);
+        return key;
+    }
+
+    // visible for testing
+    int size() {
+        return this.keys.size();
+    }
+}
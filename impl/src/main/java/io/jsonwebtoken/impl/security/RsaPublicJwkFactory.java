@@ -48,12 +48,17 @@ class RsaPublicJwkFactory extends AbstractFamilyJwkFactory<RSAPublicKey, RsaPubl
         BigInteger publicExponent = reader.get(DefaultRsaPublicJwk.PUBLIC_EXPONENT);
         final RSAPublicKeySpec spec = new RSAPublicKeySpec(modulus, publicExponent);
 
-        RSAPublicKey key = generateKey(ctx, new CheckedFunction<KeyFactory, RSAPublicKey>() {
-            @Override
-            public RSAPublicKey apply(KeyFactory keyFactory) throws Exception {
-                return (RSAPublicKey) keyFactory.generatePublic(spec);
-            }
-        });
+        String cacheId = PublicJwkKeyCache.id(ctx, DefaultRsaPublicJwk.THUMBPRINT_PARAMS);
+        RSAPublicKey key = PublicJwkKeyCache.INSTANCE.get(cacheId, RSAPublicKey.class);
+        if (key == null) {
+            key = generateKey(ctx, new CheckedFunction<KeyFactory, RSAPublicKey>() {
+                @Override
+                public RSAPublicKey apply(KeyFactory keyFactory) throws Exception {
+                    return (RSAPublicKey) keyFactory.generatePublic(spec);
+                }
+            });
+            key = PublicJwkKeyCache.INSTANCE.share(cacheId, key);
+        }
 
         ctx.setKey(key);
 
@@ -469,4 +469,78 @@ class DefaultClaimsTest {
         assertEquals now, claims.get('foo') //conversion should NOT have occurred
     }
 
+    @Test
+    void testWrap() {
+        def custom = [a: 'b']
+        def map = [iss: 'me', foo: custom, aud: 'you', exp: 1500000000, bar: 42]
+        def wrapped = DefaultClaims.wrap(map)
+        def copied = new DefaultClaims(map)
+        assertEquals copied, wrapped
+        assertEquals copied.hashCode(), wrapped.hashCode()
+        assertEquals copied.toString(), wrapped.toString()
+        assertEquals copied.keySet() as List, wrapped.keySet() as List // order retained
+        assertEquals copied.values() as List, wrapped.values() as List
+        assertEquals 5, wrapped.size()
+        assertSame custom, wrapped.get('foo') // not copied
+        assertEquals 42, wrapped.get('bar', Integer)
+        assertEquals 'me', wrapped.getIssuer()
+        assertEquals(['you'] as Set, wrapped.getAudience())
+        assertEquals new Date(1500000000000), wrapped.getExpiration()
+        assertEquals(['you'] as Set, wrapped.get('aud')) // canonical value
+        assertTrue wrapped.containsKey('foo')
+        assertFalse wrapped.containsKey('baz')
+    }
+
+    @Test
+    void testWrapIsImmutable() {
+        def wrapped = DefaultClaims.wrap([iss: 'me', foo: 'bar'])
+        def attempts = [
+                { wrapped.put('foo', 'baz') },
+                { wrapped.remove('foo') },
+                { wrapped.clear() },
+                { def i = wrapped.entrySet().iterator(); i.next(); i.remove() }
+        ]
+        attempts.each { attempt ->
+            try {
+                attempt.call()
+                fail()
+            } catch (UnsupportedOperationException expected) {
+            }
+        }
+        assertEquals([iss: 'me', foo: 'bar'], wrapped)
+    }
+
+    @Test
+    void testWrapFallsBackToCopy() {
+        // each of these require cleaning by put(), so wrapping would not be equivalent to a copy:
+        def maps = [
+                [iss: 'me', foo: null],
+                [iss: '', foo: 'bar'],
+                [' foo': 'bar'],
+                ['foo ': 'bar']
+        ]
+        maps.each { map ->
+            def wrapped = DefaultClaims.wrap(map)
+            assertEquals new DefaultClaims(map), wrapped
+            assertEquals 1, wrapped.size()
+        }
+    }
+
+    @Test
+    void testWrapInvalidRegisteredClaim() {
+        def map = [foo: 'bar', exp: 'not a date']
+        String msg = null
+        try {
+            new DefaultClaims(map)
+            fail()
+        } catch (IllegalArgumentException expected) {
+            msg = expected.getMessage()
+        }
+        try {
+            DefaultClaims.wrap(map)
+            fail()
+        } catch (IllegalArgumentException expected) {
+            assertEquals msg, expected.getMessage()
+        }
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl
+
+import io.jsonwebtoken.Jwts
+import io.jsonwebtoken.impl.security.TestKeys
+import org.junit.Test
+
+import static org.junit.Assert.*
+
+class DefaultJwsTemplateTest {
+
+    static final def KEY = TestKeys.HS256
+
+    @Test
+    void testCompactMatchesBuilder() {
+        def template = Jwts.builder().header().keyId('kid').and().issuer('me').audience().add('you').and()
+                .signWith(KEY).template()
+        def exp = new Date(System.currentTimeMillis() + 60000)
+        def jws = template.compact([sub: 'joe', exp: exp, foo: 'bar'])
+        def expected = Jwts.builder().header().keyId('kid').and().issuer('me').audience().add('you').and()
+                .subject('joe').expiration(exp).claim('foo', 'bar').signWith(KEY).compact()
+        assertEquals expected, jws
+        def claims = Jwts.parser().verifyWith(KEY).build().parseSignedClaims(jws).payload
+        assertEquals 'me', claims.getIssuer()
+        assertEquals 'joe', claims.getSubject()
+        assertEquals 'bar', claims.foo
+    }
+
+    @Test
+    void testHeaderEncodedOnce() {
+        def template = Jwts.builder().signWith(KEY).template()
+        def a = template.compact([sub: 'a'])
+        def b = template.compact([sub: 'b'])
+        assertEquals a.substring(0, a.indexOf('.')), b.substring(0, b.indexOf('.'))
+        assertNotEquals a, b
+    }
+
+    @Test
+    void testEmptyDelta() {
+        def template = Jwts.builder().issuer('me').signWith(KEY).template()
+        def expected = Jwts.builder().issuer('me').signWith(KEY).compact()
+        assertEquals expected, template.compact(null)
+        assertEquals expected, template.compact([:])
+    }
+
+    @Test
+    void testNullDeltaValueRemovesClaim() {
+        def template = Jwts.builder().issuer('me').subject('default').signWith(KEY).template()
+        def jws = template.compact([sub: null])
+        assertEquals Jwts.builder().issuer('me').signWith(KEY).compact(), jws
+    }
+
+    @Test
+    void testInvalidDeltaClaim() {
+        def template = Jwts.builder().signWith(KEY).template()
+        String msg = null
+        try {
+            new DefaultClaims([exp: 'not a date'])
+            fail()
+        } catch (IllegalArgumentException expected) {
+            msg = expected.getMessage()
+        }
+        try {
+            template.compact([exp: 'not a date'])
+            fail()
+        } catch (IllegalArgumentException expected) {
+            assertEquals msg, expected.getMessage()
+        }
+    }
+
+    @Test
+    void testBuilderChangesDoNotAffectTemplate() {
+        def builder = Jwts.builder().issuer('me').signWith(KEY)
+        def template = builder.template()
+        builder.issuer('you').header().keyId('kid').and().signWith(TestKeys.HS512)
+        def expected = Jwts.builder().issuer('me').subject('joe').signWith(KEY).compact()
+        assertEquals expected, template.compact([sub: 'joe'])
+    }
+
+    @Test
+    void testAsymmetric() {
+        def pair = TestKeys.ES256.pair
+        def template = Jwts.builder().signWith(pair.private).template()
+        def jws = template.compact([sub: 'joe'])
+        def parsed = Jwts.parser().verifyWith(pair.public).build().parseSignedClaims(jws)
+        assertEquals 'ES256', parsed.header.getAlgorithm()
+        assertEquals 'joe', parsed.payload.getSubject()
+    }
+
+    @Test
+    void testCompression() {
+        def template = Jwts.builder().compressWith(Jwts.ZIP.DEF).signWith(KEY).template()
+        def jws = template.compact([sub: 'joe'])
+        def parsed = Jwts.parser().verifyWith(KEY).build().parseSignedClaims(jws)
+        assertEquals 'DEF', parsed.header.getCompressionAlgorithm()
+        assertEquals 'joe', parsed.payload.getSubject()
+        try {
+            template.compact(null)
+            fail()
+        } catch (IllegalStateException expected) {
+            assertEquals 'Compressed JWS templates require claims.', expected.getMessage()
+        }
+    }
+
+    @Test
+    void testConcurrentUse() {
+        def template = Jwts.builder().signWith(KEY).template()
+        def parser = Jwts.parser().verifyWith(KEY).build()
+        def failures = java.util.Collections.synchronizedList([])
+        def threads = (0..<4).collect { t ->
+            Thread.start {
+                for (int i = 0; i < 50; i++) {
+                    def sub = "$t-$i" as String
+                    try {
+                        assertEquals sub, parser.parseSignedClaims(template.compact([sub: sub])).payload.getSubject()
+                    } catch (Throwable e) {
+                        failures.add(e)
+                    }
+                }
+            }
+        }
+        threads*.join()
+        assertTrue failures.toString(), failures.isEmpty()
+    }
+
+    @Test
+    void testUnsigned() {
+        assertTemplateFails(Jwts.builder().subject('joe'), 'JWS templates require a signing key.')
+    }
+
+    @Test
+    void testEncrypted() {
+        def builder = Jwts.builder().encryptWith(TestKeys.A128GCM, Jwts.ENC.A128GCM)
+        assertTemplateFails(builder, 'JWS templates cannot be used to encrypt JWTs.')
+    }
+
+    @Test
+    void testContent() {
+        def builder = Jwts.builder().content('hello').signWith(KEY)
+        assertTemplateFails(builder, "JWS templates only support claims, 'content' cannot be specified.")
+    }
+
+    @Test
+    void testUnencodedPayload() {
+        def builder = Jwts.builder().encodePayload(false).signWith(KEY)
+        assertTemplateFails(builder, 'Payload encoding may not be disabled for JWS templates.')
+    }
+
+    private static void assertTemplateFails(def builder, String msg) {
+        try {
+            builder.template()
+            fail()
+        } catch (IllegalStateException expected) {
+            assertEquals msg, expected.getMessage()
+        }
+    }
+}
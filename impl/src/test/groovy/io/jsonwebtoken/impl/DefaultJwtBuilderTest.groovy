@@ -22,6 +22,7 @@ import io.jsonwebtoken.SignatureAlgorithm
 import io.jsonwebtoken.impl.io.Streams
 import io.jsonwebtoken.impl.io.TestSerializer
 import io.jsonwebtoken.impl.lang.Services
+import io.jsonwebtoken.impl.security.JcaInstancePool
 import io.jsonwebtoken.impl.security.Randoms
 import io.jsonwebtoken.impl.security.TestKey
 import io.jsonwebtoken.impl.security.TestKeys
@@ -105,6 +106,16 @@ class DefaultJwtBuilderTest {
         assertTrue called[0]
     }
 
+    @Test
+    void testPoolJcaInstances() {
+        final def key = TestKeys.HS256
+        assertNull builder.@jcaPool
+        builder.poolJcaInstances().subject('me').signWith(key)
+        assertSame JcaInstancePool.INSTANCE, builder.@jcaPool
+        String pooled = builder.compact()
+        assertEquals Jwts.builder().subject('me').signWith(key).compact(), pooled
+    }
+
     @Test
     void testSetSecureRandom() {
 
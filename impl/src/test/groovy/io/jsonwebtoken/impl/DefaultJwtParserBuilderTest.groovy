@@ -75,6 +75,151 @@ class DefaultJwtParserBuilderTest {
         verify provider
     }
 
+    @Test
+    void testPoolJcaInstances() {
+        assertNull builder.build().@jcaPool
+        def parser = builder.poolJcaInstances().verifyWith(TestKeys.HS256).build()
+        assertSame JcaInstancePool.INSTANCE, parser.@jcaPool
+
+        // pooled instances must yield identical results across repeated use on the same thread:
+        for (def alg : [Jwts.SIG.HS256, Jwts.SIG.RS256]) {
+            def pair = alg == Jwts.SIG.HS256 ? null : TestKeys.forAlgorithm(alg).pair
+            def signKey = pair != null ? pair.private : TestKeys.HS256
+            def verifyKey = pair != null ? pair.public : TestKeys.HS256
+            parser = Jwts.parser().poolJcaInstances().verifyWith(verifyKey).build()
+            3.times {
+                String jws = Jwts.builder().poolJcaInstances().subject("$it").signWith(signKey, alg).compact()
+                assertEquals "$it" as String, parser.parseSignedClaims(jws).payload.getSubject()
+            }
+        }
+    }
+
+    @Test
+    void testPoolJcaInstancesReusesDefaultProviderMac() {
+        def key = TestKeys.HS256
+        def jcaName = Jwts.SIG.HS256.getJcaName()
+        def parser = builder.poolJcaInstances().verifyWith(key).build()
+        JcaInstancePool.clear()
+        try {
+            parser.parseSignedClaims(Jwts.builder().subject('first').signWith(key).compact())
+            javax.crypto.Mac mac = JcaInstancePool.INSTANCE.take(javax.crypto.Mac, jcaName, null)
+            assertNotNull mac // released back to the pool even though no provider was specified
+            JcaInstancePool.INSTANCE.release(javax.crypto.Mac, jcaName, null, mac)
+
+            parser.parseSignedClaims(Jwts.builder().subject('second').signWith(key).compact())
+            assertSame mac, JcaInstancePool.INSTANCE.take(javax.crypto.Mac, jcaName, null)
+        } finally {
+            JcaInstancePool.clear()
+        }
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testMacKeyCacheSizeNegative() {
+        builder.macKeyCacheSize(-1)
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testHeaderCacheSizeNegative() {
+        builder.headerCacheSize(-1)
+    }
+
+    @Test
+    void testHeaderCacheSize() {
+        assertNull builder.build().@headerCache // disabled by default
+        def parser = builder.headerCacheSize(8).build()
+        assertNotNull parser.@headerCache
+        assertNotSame parser.@headerCache, builder.build().@headerCache // never shared across parsers
+        assertNull builder.headerCacheSize(0).build().@headerCache
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testCacheVerifiedZeroEntries() {
+        builder.cacheVerified(0, 60)
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testCacheVerifiedZeroMaxAge() {
+        builder.cacheVerified(16, 0)
+    }
+
+    @Test
+    void testCacheVerified() {
+        builder.cacheVerified(16, 60)
+        assertEquals 16, builder.@verifiedCacheSize
+        assertEquals 60000L, builder.@verifiedCacheMaxAgeMillis
+        def parser = builder.build()
+        assertNotNull parser.@verifiedCache
+        assertEquals 60000L, parser.@verifiedCacheMaxAgeMillis
+        assertNotSame parser.@verifiedCache, builder.build().@verifiedCache // never shared across parsers
+    }
+
+    @Test
+    void testCacheVerifiedMaxAgeOverflow() {
+        builder.cacheVerified(16, Long.MAX_VALUE)
+        assertEquals Long.MAX_VALUE, builder.@verifiedCacheMaxAgeMillis
+    }
+
+    @Test
+    void testCacheVerifiedDisabledByDefault() {
+        assertNull builder.build().@verifiedCache
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testCacheLocatedKeysZeroMaxEntries() {
+        builder.cacheLocatedKeys(0, 60)
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testCacheLocatedKeysZeroTtl() {
+        builder.cacheLocatedKeys(16, 0)
+    }
+
+    @Test
+    void testCacheLocatedKeys() {
+        def locator = new ConstantKeyLocator(TestKeys.HS256, null)
+        def parser = builder.keyLocator(locator).cacheLocatedKeys(16, Long.MAX_VALUE).build()
+        assertEquals Long.MAX_VALUE, builder.@locatedKeyCacheTtlMillis
+        assertTrue parser.@keyLocator instanceof CachingKeyLocator
+        assertSame locator, parser.@keyLocator.@delegate
+        assertNotSame parser.@keyLocator.@keys, builder.build().@keyLocator.@keys // never shared across parsers
+    }
+
+    @Test
+    void testCacheLocatedKeysWithoutKeyLocator() {
+        def parser = builder.verifyWith(TestKeys.HS256).cacheLocatedKeys(16, 60).build()
+        assertTrue parser.@keyLocator instanceof ConstantKeyLocator
+    }
+
+    @Test
+    void testMacKeyCacheSize() {
+        def key = TestKeys.HS256
+        def parser = builder.macKeyCacheSize(4).verifyWith(key).build()
+        JcaInstancePool pool = parser.@jcaPool
+        assertNotNull pool
+        assertNotSame JcaInstancePool.INSTANCE, pool
+        assertTrue pool.isPrimingMacs()
+        assertFalse pool.supports(javax.crypto.Mac)
+
+        3.times {
+            String jws = Jwts.builder().subject("$it").signWith(key).compact()
+            assertEquals "$it" as String, parser.parseSignedClaims(jws).payload.getSubject()
+        }
+        assertNotNull pool.primed(Jwts.SIG.HS256.getJcaName(), null, key)
+
+        // a tampered signature must still fail with a primed Mac:
+        String jws = Jwts.builder().subject('me').signWith(key).compact()
+        String tampered = jws.substring(0, jws.length() - 2) + (jws.endsWith('AA') ? 'BB' : 'AA')
+        try {
+            parser.parseSignedClaims(tampered)
+            fail()
+        } catch (io.jsonwebtoken.security.SignatureException expected) {
+        }
+
+        pool = builder.poolJcaInstances().build().@jcaPool
+        assertTrue pool.supports(javax.crypto.Mac)
+        assertTrue pool.isPrimingMacs()
+    }
+
     @Test
     void testKeyLocatorAndVerificationKeyConfigured() {
         try {
@@ -426,6 +571,13 @@ class DefaultJwtParserBuilderTest {
         assertSame deserializer, parser.@deserializer
     }
 
+    @Test
+    void testFlatHeadersOnlyWithDefaultDeserializer() {
+        assertTrue builder.build().@flatHeaders
+        assertTrue builder.build().@flatHeaders // discovered deserializer isn't retained as user-configured
+        assertFalse builder.json(niceMock(Deserializer)).build().@flatHeaders
+    }
+
     @Test
     void testVerificationKeyAndSigningKeyResolverBothConfigured() {
         def key = TestKeys.HS256
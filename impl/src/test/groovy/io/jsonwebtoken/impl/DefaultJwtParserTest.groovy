@@ -17,21 +17,33 @@ package io.jsonwebtoken.impl
 
 import com.fasterxml.jackson.databind.ObjectMapper
 import io.jsonwebtoken.*
+import io.jsonwebtoken.impl.io.Streams
 import io.jsonwebtoken.impl.lang.JwtDateConverter
 import io.jsonwebtoken.impl.lang.Services
 import io.jsonwebtoken.impl.security.TestKeys
 import io.jsonwebtoken.io.AbstractDeserializer
+import io.jsonwebtoken.io.Decoder
+import io.jsonwebtoken.io.Decoders
+import io.jsonwebtoken.io.DecodingException
 import io.jsonwebtoken.io.Encoders
 import io.jsonwebtoken.io.Serializer
 import io.jsonwebtoken.lang.Collections
 import io.jsonwebtoken.lang.DateFormats
 import io.jsonwebtoken.lang.Strings
+import io.jsonwebtoken.security.Jwks
 import io.jsonwebtoken.security.Keys
 import org.junit.Before
 import org.junit.Test
 
 import javax.crypto.Mac
 import javax.crypto.SecretKey
+import java.security.Key
+import java.util.concurrent.Callable
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
 
 import static org.junit.Assert.*
 
@@ -70,6 +82,31 @@ class DefaultJwtParserTest {
         parser.decode('20:SLDKJF;3993;----', 'test')
     }
 
+    @Test
+    void testDeserializesDecodedBytesDirectly() {
+        int readers = 0
+        int byteArrays = 0
+        def deserializer = new AbstractDeserializer() {
+            @Override
+            protected Object doDeserialize(Reader reader) throws Exception {
+                readers++
+                return OBJECT_MAPPER.readValue(reader, Map.class)
+            }
+
+            @Override
+            protected Object doDeserialize(byte[] bytes, int offset, int length) throws Exception {
+                byteArrays++
+                return OBJECT_MAPPER.readValue(bytes, offset, length, Map.class)
+            }
+        }
+        def key = Jwts.SIG.HS256.key().build()
+        String jws = Jwts.builder().claim('foo', 'bar').signWith(key).compact()
+        def claims = Jwts.parser().json(deserializer).verifyWith(key).build().parseSignedClaims(jws).getPayload()
+        assertEquals 'bar', claims.get('foo')
+        assertEquals 2, byteArrays // header and claims
+        assertEquals 0, readers
+    }
+
     @Test
     void testDesrializeJsonWithCustomSerializer() {
         boolean invoked = false
@@ -341,4 +378,565 @@ class DefaultJwtParserTest {
         }
         assertEquals value, Jwts.parser().verifyWith(key).build().parse(jwt, handler)
     }
+
+    @Test
+    void testDefaultDecoderDecodesTokenDirectly() {
+        def parser = Jwts.parser().unsecured().build() as DefaultJwtParser
+        assertSame Decoders.BASE64URL, parser.@tokenDecoder
+        String jwt = Jwts.builder().subject('me').compact()
+        assertEquals 'me', parser.parseUnsecuredClaims(jwt).getPayload().getSubject()
+    }
+
+    @Test
+    void testCustomStreamDecoderIsUsed() {
+        boolean invoked = false
+        def decoder = new Decoder<InputStream, InputStream>() {
+            @Override
+            InputStream decode(InputStream ins) throws DecodingException {
+                invoked = true
+                return Decoders.BASE64URL.decode(Strings.utf8(Streams.bytes(ins, 'test'))).with { Streams.of(it) }
+            }
+        }
+        def parser = Jwts.parser().b64Url(decoder).unsecured().build() as DefaultJwtParser
+        assertNull parser.@tokenDecoder
+        String jwt = Jwts.builder().subject('me').compact()
+        assertEquals 'me', parser.parseUnsecuredClaims(jwt).getPayload().getSubject()
+        assertTrue invoked
+    }
+
+    @Test
+    void testParseCharSequenceRange() {
+        String jwt = Jwts.builder().subject('me').compact()
+        String input = "[$jwt]"
+        def parsed = Jwts.parser().unsecured().build().parse(input, 1, input.length() - 1)
+        assertEquals 'me', ((Claims) parsed.getPayload()).getSubject()
+    }
+
+    private static Clock mutableClock(Closure<Long> time) {
+        return new Clock() {
+            @Override
+            Date now() {
+                return new Date(time.call())
+            }
+        }
+    }
+
+    // records every located header, possibly from multiple threads, and returns the key for that header:
+    private static Locator<Key> countingLocator(List<Header> headers, Closure<Key> keys) {
+        return new Locator<Key>() {
+            @Override
+            Key locate(Header header) {
+                synchronized (headers) {
+                    headers.add(header)
+                }
+                return keys.call(header)
+            }
+        }
+    }
+
+    @Test
+    void testCacheLocatedKeys() {
+        def key = TestKeys.HS256
+        def headers = []
+        def parser = Jwts.parser().keyLocator(countingLocator(headers, { key })).cacheLocatedKeys(16, 60).build()
+        String a = Jwts.builder().header().keyId('a').and().subject('1').signWith(key).compact()
+        String b = Jwts.builder().header().keyId('a').and().subject('2').signWith(key).compact()
+        String c = Jwts.builder().header().keyId('c').and().subject('3').signWith(key).compact()
+        assertEquals '1', parser.parseSignedClaims(a).getPayload().getSubject()
+        assertEquals '2', parser.parseSignedClaims(b).getPayload().getSubject()
+        assertEquals 1, headers.size()
+        parser.parseSignedClaims(c) // different kid
+        assertEquals 2, headers.size()
+
+        // signatures are still verified with the cached key:
+        def other = Jwts.SIG.HS256.key().build()
+        String forged = Jwts.builder().header().keyId('a').and().subject('4').signWith(other).compact()
+        try {
+            parser.parseSignedClaims(forged)
+            fail()
+        } catch (SignatureException expected) {
+        }
+        assertEquals 2, headers.size()
+    }
+
+    @Test
+    void testCacheLocatedKeysExpires() {
+        long now = System.currentTimeMillis()
+        long time = now
+        def key = TestKeys.HS256
+        def headers = []
+        def parser = Jwts.parser().keyLocator(countingLocator(headers, { key })).clock(mutableClock { time })
+                .cacheLocatedKeys(16, 60).build()
+        String jws = Jwts.builder().header().keyId('a').and().subject('me').signWith(key).compact()
+        parser.parseSignedClaims(jws)
+        time = now + 59999
+        parser.parseSignedClaims(jws)
+        assertEquals 1, headers.size()
+        time = now + 60000
+        parser.parseSignedClaims(jws)
+        assertEquals 2, headers.size()
+    }
+
+    @Test
+    void testCacheLocatedKeysDistinguishesJwsAndJwe() {
+        def key = Jwts.SIG.HS256.key().build()
+        def headers = []
+        def parser = Jwts.parser().keyLocator(countingLocator(headers, { key })).cacheLocatedKeys(16, 60).build()
+        String jws = Jwts.builder().header().keyId('a').and().subject('me').signWith(key).compact()
+        String jwe = Jwts.builder().header().keyId('a').and().subject('me').encryptWith(key, Jwts.KEY.DIRECT, Jwts.ENC.A128CBC_HS256).compact()
+        parser.parseSignedClaims(jws)
+        parser.parseEncryptedClaims(jwe)
+        parser.parseEncryptedClaims(jwe)
+        assertEquals 2, headers.size()
+    }
+
+    @Test
+    void testCacheLocatedKeysIgnoresNullAndEmbeddedKeys() {
+        def pair = TestKeys.ES256.pair
+        def headers = []
+        Key located = null
+        def parser = Jwts.parser().keyLocator(countingLocator(headers, { located })).cacheLocatedKeys(16, 60).build()
+        String jws = Jwts.builder().header().keyId('a').and().subject('me').signWith(pair.private).compact()
+        2.times {
+            try {
+                parser.parseSignedClaims(jws)
+                fail()
+            } catch (IllegalArgumentException | JwtException expected) {
+            }
+        }
+        assertEquals 2, headers.size() // null is never cached
+
+        located = pair.public
+        def jwk = Jwks.builder().key(pair.public).build()
+        String embedded = Jwts.builder().header().keyId('a').add('jwk', jwk).and().subject('me')
+                .signWith(pair.private).compact()
+        parser.parseSignedClaims(embedded)
+        parser.parseSignedClaims(embedded)
+        assertEquals 4, headers.size()
+    }
+
+    @Test
+    void testCacheVerifiedHit() {
+        def key = TestKeys.HS256
+        def parser = Jwts.parser().verifyWith(key).cacheVerified(16, 60).build()
+        String jws = Jwts.builder().subject('me').signWith(key).compact()
+        def first = parser.parseSignedClaims(jws)
+        def second = parser.parseSignedClaims(jws)
+        assertEquals first, second
+        assertNotSame first, second // never shared
+        assertNotSame first.getHeader(), second.getHeader()
+        assertNotSame first.getPayload(), second.getPayload()
+        assertEquals first, parser.parse(jws)
+    }
+
+    @Test
+    void testCacheVerifiedHitNotAffectedByChanges() {
+        long now = System.currentTimeMillis()
+        now -= now % 1000 // exp has seconds precision
+        def key = TestKeys.HS256
+        def parser = Jwts.parser().verifyWith(key).cacheVerified(16, 60).build()
+        def exp = new Date(now + 60000)
+        String jws = Jwts.builder().subject('me').expiration(exp).claim('roles', ['a'])
+                .claim('nested', [x: 1]).signWith(key).compact()
+        def first = parser.parseSignedClaims(jws).getPayload()
+        first.getExpiration().setTime(0)
+        try {
+            first.get('roles', List.class).add('admin')
+        } catch (UnsupportedOperationException ignored) {
+        }
+        try {
+            first.get('nested', Map.class).put('x', 2)
+        } catch (UnsupportedOperationException ignored) {
+        }
+
+        def second = parser.parseSignedClaims(jws).getPayload() // cache hit
+        assertEquals exp.getTime(), second.getExpiration().getTime()
+        assertEquals(['a'], second.get('roles', List.class))
+        assertEquals([x: 1], second.get('nested', Map.class))
+        try {
+            second.get('roles', List.class).add('admin')
+            fail()
+        } catch (UnsupportedOperationException expected) {
+        }
+    }
+
+    @Test
+    void testCacheVerifiedJweHit() {
+        def key = Jwts.ENC.A128GCM.key().build()
+        def parser = Jwts.parser().decryptWith(key).cacheVerified(16, 60).build()
+        String jwe = Jwts.builder().subject('me').encryptWith(key, Jwts.ENC.A128GCM).compact()
+        def first = parser.parseEncryptedClaims(jwe)
+        def second = parser.parseEncryptedClaims(jwe)
+        assertEquals first, second
+        assertNotSame first, second
+        assertEquals 1, parser.@verifiedCache.size()
+    }
+
+    @Test
+    void testCacheVerifiedRevalidatesOnHit() {
+        long now = System.currentTimeMillis()
+        long time = now
+        def key = TestKeys.HS256
+        def parser = Jwts.parser().verifyWith(key).clock(mutableClock { time }).cacheVerified(16, 60).build()
+        String jws = Jwts.builder().subject('me').notBefore(new Date(now - 1000)).signWith(key).compact()
+        def jwt = parser.parseSignedClaims(jws)
+        assertEquals 1, parser.@verifiedCache.size()
+        time = now - 10000 // clock moved backwards, before nbf
+        try {
+            parser.parseSignedClaims(jws)
+            fail()
+        } catch (PrematureJwtException expected) {
+        }
+        assertEquals 1, parser.@verifiedCache.size() // still cached, but not accepted
+        time = now
+        assertEquals jwt, parser.parseSignedClaims(jws)
+    }
+
+    @Test
+    void testCacheVerifiedRequiredClaimsOnHit() {
+        def key = TestKeys.HS256
+        def parser = Jwts.parser().verifyWith(key).requireSubject('me').cacheVerified(16, 60).build()
+        String jws = Jwts.builder().subject('you').signWith(key).compact()
+        2.times {
+            try {
+                parser.parseSignedClaims(jws)
+                fail()
+            } catch (IncorrectClaimException expected) {
+            }
+        }
+        assertEquals 0, parser.@verifiedCache.size()
+    }
+
+    @Test
+    void testCacheVerifiedExpiresWithMaxAge() {
+        long now = System.currentTimeMillis()
+        long time = now
+        def key = TestKeys.HS256
+        def headers = []
+        def parser = Jwts.parser().keyLocator(countingLocator(headers, { key })).clock(mutableClock { time })
+                .cacheVerified(16, 60).build()
+        String jws = Jwts.builder().subject('me').signWith(key).compact()
+        parser.parseSignedClaims(jws)
+        time = now + 59999
+        parser.parseSignedClaims(jws)
+        assertEquals 1, headers.size() // cached
+        time = now + 60000
+        parser.parseSignedClaims(jws)
+        assertEquals 2, headers.size() // expired, so verified again
+    }
+
+    @Test
+    void testCacheVerifiedExpiresBeforeExpMinusSkew() {
+        long now = System.currentTimeMillis()
+        now -= now % 1000 // exp has seconds precision
+        long time = now
+        def key = TestKeys.HS256
+        def headers = []
+        def parser = Jwts.parser().keyLocator(countingLocator(headers, { key })).clock(mutableClock { time })
+                .clockSkewSeconds(10).cacheVerified(16, 3600).build()
+        def exp = new Date(now + 30000)
+        String jws = Jwts.builder().subject('me').expiration(exp).signWith(key).compact()
+        parser.parseSignedClaims(jws)
+        time = exp.getTime() - 10001
+        parser.parseSignedClaims(jws)
+        assertEquals 1, headers.size() // cached
+        time = exp.getTime() - 10000 // cache entry expires at exp - skew
+        parser.parseSignedClaims(jws)
+        assertEquals 2, headers.size()
+    }
+
+    @Test
+    void testCacheVerifiedNotCachedWithinSkew() {
+        long now = System.currentTimeMillis()
+        def key = TestKeys.HS256
+        def parser = Jwts.parser().verifyWith(key).clock(mutableClock { now }).clockSkewSeconds(10)
+                .cacheVerified(16, 3600).build()
+        String jws = Jwts.builder().subject('me').expiration(new Date(now - 1000)).signWith(key).compact()
+        parser.parseSignedClaims(jws) // valid due to skew, but never cached
+        assertEquals 0, parser.@verifiedCache.size()
+    }
+
+    @Test
+    void testCacheVerifiedIgnoresUncacheable() {
+        def key = TestKeys.HS256
+        def parser = Jwts.parser().unsecured().verifyWith(key).cacheVerified(16, 60).build()
+
+        // unsecured:
+        parser.parseUnsecuredClaims(Jwts.builder().subject('me').compact())
+        // content:
+        parser.parseSignedContent(Jwts.builder().content(Strings.utf8('hi')).signWith(key).compact())
+        // detached unencoded payload:
+        byte[] claimsJson = Strings.utf8('{"sub":"me"}')
+        String jws = Jwts.builder().content(claimsJson).encodePayload(false).signWith(key).compact()
+        assertEquals 'me', parser.parseSignedClaims(jws, claimsJson).getPayload().getSubject()
+
+        assertEquals 0, parser.@verifiedCache.size()
+    }
+
+    @Test
+    void testHeaderCacheHit() {
+        def key = TestKeys.HS256
+        def parser = Jwts.parser().verifyWith(key).headerCacheSize(4).build()
+        def first = parser.parseSignedClaims(Jwts.builder().subject('a').signWith(key).compact())
+        def second = parser.parseSignedClaims(Jwts.builder().subject('b').signWith(key).compact())
+        assertEquals 'b', second.getPayload().getSubject()
+        assertEquals first.getHeader(), second.getHeader()
+        assertNotSame first.getHeader(), second.getHeader() // never shared
+        assertEquals 1, parser.@headerCache.size()
+    }
+
+    @Test
+    void testHeaderCacheJweHit() {
+        def key = Jwts.ENC.A128GCM.key().build()
+        def parser = Jwts.parser().decryptWith(key).headerCacheSize(4).build()
+        def first = parser.parseEncryptedClaims(Jwts.builder().subject('a').encryptWith(key, Jwts.ENC.A128GCM).compact())
+        def second = parser.parseEncryptedClaims(Jwts.builder().subject('b').encryptWith(key, Jwts.ENC.A128GCM).compact())
+        assertEquals 'b', second.getPayload().getSubject()
+        assertEquals first.getHeader(), second.getHeader()
+        assertEquals 1, parser.@headerCache.size()
+    }
+
+    @Test
+    void testHeaderCacheStillVerifiesSignature() {
+        def key = TestKeys.HS256
+        def parser = Jwts.parser().verifyWith(key).headerCacheSize(4).build()
+        String jws = Jwts.builder().subject('me').signWith(key).compact()
+        parser.parseSignedClaims(jws)
+        String other = Jwts.builder().subject('you').signWith(key).compact()
+        String tampered = jws.substring(0, jws.lastIndexOf('.')) + other.substring(other.lastIndexOf('.'))
+        try {
+            parser.parseSignedClaims(tampered)
+            fail()
+        } catch (SignatureException expected) {
+        }
+    }
+
+    @Test
+    void testHeaderCacheOnlyRetainsVerifiedHeaders() {
+        def key = TestKeys.HS256
+        def parser = Jwts.parser().verifyWith(key).headerCacheSize(4).build()
+        def forger = Jwts.SIG.HS256.key().build()
+        String jws = Jwts.builder().header().keyId('forged').and().subject('me').signWith(forger).compact()
+        try {
+            parser.parseSignedClaims(jws)
+            fail()
+        } catch (SignatureException expected) {
+        }
+        assertEquals 0, parser.@headerCache.size()
+    }
+
+    @Test
+    void testHeaderCacheUnsecuredNotRetained() {
+        def parser = Jwts.parser().unsecured().headerCacheSize(4).build()
+        parser.parseUnsecuredClaims(Jwts.builder().subject('me').compact())
+        assertEquals 0, parser.@headerCache.size()
+    }
+
+    @Test
+    void testHeaderCacheSigningKeyResolver() {
+        def key = TestKeys.HS256
+        def parser = Jwts.parser().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+            @Override
+            byte[] resolveSigningKeyBytes(JwsHeader header, Claims claims) {
+                return claims.getSubject() == 'me' ? key.getEncoded() : TestKeys.HS384.getEncoded()
+            }
+        }).headerCacheSize(4).build()
+        try { // verified after the payload is parsed, so the header must not be retained before that:
+            parser.parseSignedClaims(Jwts.builder().subject('you').signWith(key).compact())
+            fail()
+        } catch (SignatureException expected) {
+        }
+        assertEquals 0, parser.@headerCache.size()
+        parser.parseSignedClaims(Jwts.builder().subject('me').signWith(key).compact())
+        assertEquals 1, parser.@headerCache.size()
+    }
+
+    @Test
+    void testHeaderCacheNestedValuesImmutable() {
+        def key = TestKeys.HS256
+        def parser = Jwts.parser().verifyWith(key).headerCacheSize(4).build()
+        def jws = Jwts.builder().header().add('custom', ['a']).and().subject('me').signWith(key).compact()
+        def header = parser.parseSignedClaims(jws).getHeader()
+        try {
+            (header.get('custom') as List).add('b')
+            fail()
+        } catch (UnsupportedOperationException expected) {
+        }
+        assertEquals(['a'], parser.parseSignedClaims(jws).getHeader().get('custom'))
+    }
+
+    @Test
+    void testHeaderCacheJwtTypeMismatch() {
+        def key = TestKeys.HS256
+        def parser = Jwts.parser().unsecured().verifyWith(key).headerCacheSize(4).build()
+
+        String jws = Jwts.builder().subject('me').signWith(key).compact()
+        parser.parseSignedClaims(jws)
+        try { // same header text, but without a signature:
+            parser.parse(jws.substring(0, jws.lastIndexOf('.') + 1))
+            fail()
+        } catch (MalformedJwtException expected) {
+            assertEquals String.format(DefaultJwtParser.MISSING_JWS_DIGEST_MSG_FMT, 'HS256'), expected.getMessage()
+        }
+
+        String unsecured = Jwts.builder().subject('me').compact()
+        assertTrue parser.parse(unsecured) instanceof Jwt
+        assertEquals 1, parser.@headerCache.size() // unsecured headers are never retained
+        try { // same header text, but with a signature:
+            parser.parse(unsecured + jws.substring(jws.lastIndexOf('.') + 1))
+            fail()
+        } catch (MalformedJwtException expected) {
+        }
+    }
+
+    @Test
+    void testHeaderCacheUnsupportedCritNotCached() {
+        def key = TestKeys.HS256
+        def parser = Jwts.parser().verifyWith(key).headerCacheSize(4).build()
+        String jws = Jwts.builder().header().add('foo', 'bar').critical().add('foo').and().and()
+                .subject('me').signWith(key).compact()
+        2.times {
+            try {
+                parser.parseSignedClaims(jws)
+                fail()
+            } catch (UnsupportedJwtException expected) {
+            }
+        }
+        assertEquals 0, parser.@headerCache.size()
+    }
+
+    @Test
+    void testHeaderCacheCritSupportedOnlyForUnencodedPayload() {
+        def key = TestKeys.HS256
+        def parser = Jwts.parser().verifyWith(key).headerCacheSize(4).build()
+        byte[] claimsJson = Strings.utf8('{"sub":"me"}')
+        String jws = Jwts.builder().content(claimsJson).encodePayload(false).signWith(key).compact()
+        2.times {
+            assertEquals 'me', parser.parseSignedClaims(jws, claimsJson).getPayload().getSubject()
+        }
+        assertEquals 1, parser.@headerCache.size()
+        try { // b64 is not supported by the parser itself, so the cached header's crit must be asserted again:
+            parser.parseSignedClaims(jws)
+            fail()
+        } catch (UnsupportedJwtException expected) {
+        }
+    }
+
+    @Test
+    void testParseAll() {
+        def a = TestKeys.HS256
+        def b = TestKeys.HS384
+        def keys = [a: a, b: b]
+        def headers = []
+        def parser = Jwts.parser().keyLocator(countingLocator(headers, { ProtectedHeader h -> keys[h.getKeyId()] })).build()
+        def jwsA = { String sub -> Jwts.builder().header().keyId('a').and().subject(sub).signWith(a).compact() }
+        def jwsB = { String sub -> Jwts.builder().header().keyId('b').and().subject(sub).signWith(b).compact() }
+        def forged = Jwts.builder().header().keyId('a').and().subject('forged').signWith(Jwts.SIG.HS256.key().build())
+                .compact()
+        def jwts = [jwsA('1'), jwsB('2'), 'not a jwt', jwsA('3'), forged, null, jwsB('4')]
+
+        def executor = Executors.newFixedThreadPool(4)
+        List<JwtResult> results
+        try {
+            results = parser.parseAll(jwts, executor)
+        } finally {
+            executor.shutdown()
+        }
+
+        assertEquals jwts.size(), results.size()
+        for (int i = 0; i < jwts.size(); i++) {
+            assertSame jwts[i], results[i].getCompact()
+        }
+        assertEquals '1', (results[0].jwt.payload as Claims).getSubject()
+        assertEquals '2', (results[1].jwt.payload as Claims).getSubject()
+        assertTrue results[2].getException() instanceof MalformedJwtException
+        assertNull results[2].getJwt()
+        assertEquals '3', (results[3].jwt.payload as Claims).getSubject()
+        assertTrue results[4].getException() instanceof io.jsonwebtoken.security.SignatureException
+        assertTrue results[5].getException() instanceof IllegalArgumentException
+        assertEquals '4', (results[6].jwt.payload as Claims).getSubject()
+        assertNull results[6].getException()
+        assertEquals 2, headers.size() // once per distinct protected header
+    }
+
+    @Test
+    void testParseAllLargeGroup() {
+        def key = TestKeys.HS256
+        def headers = []
+        def parser = Jwts.parser().keyLocator(countingLocator(headers, { key })).build()
+        int n = DefaultJwtParser.BATCH_CHUNK_SIZE * 4 + 1
+        def jwts = (0..<n).collect { Jwts.builder().header().keyId('a').and().subject("$it" as String).signWith(key).compact() }
+        def pool = new ForkJoinPool(4)
+        List<JwtResult> results
+        try {
+            results = parser.parseAll(jwts, pool)
+        } finally {
+            pool.shutdown()
+        }
+        assertEquals n, results.size()
+        results.eachWithIndex { JwtResult r, int i ->
+            assertEquals "$i" as String, (r.jwt.payload as Claims).getSubject()
+        }
+        assertEquals 1, headers.size()
+    }
+
+    @Test
+    void testParseAllFromExecutorThread() {
+        def key = TestKeys.HS256
+        def parser = Jwts.parser().verifyWith(key).build()
+        int n = DefaultJwtParser.BATCH_CHUNK_SIZE * 2 + 1
+        def jwts = (0..<n).collect { Jwts.builder().subject("$it" as String).signWith(key).compact() }
+        def executor = Executors.newSingleThreadExecutor()
+        List<JwtResult> results
+        try { // the executor's only thread is busy calling parseAll, so the calling thread must do all the work:
+            results = executor.submit({ parser.parseAll(jwts, executor) } as Callable<List<JwtResult>>)
+                    .get(30, TimeUnit.SECONDS)
+        } finally {
+            executor.shutdownNow()
+        }
+        results.eachWithIndex { JwtResult r, int i ->
+            assertEquals "$i" as String, (r.jwt.payload as Claims).getSubject()
+        }
+    }
+
+    @Test
+    void testParseAllRejectedRunsOnCallingThread() {
+        def key = TestKeys.HS256
+        def parser = Jwts.parser().verifyWith(key).build()
+        def jwts = [Jwts.builder().subject('me').signWith(key).compact()]
+        def executor = new Executor() {
+            @Override
+            void execute(Runnable command) {
+                throw new RejectedExecutionException()
+            }
+        }
+        def results = parser.parseAll(jwts, executor)
+        assertEquals 'me', (results[0].jwt.payload as Claims).getSubject()
+    }
+
+    @Test
+    void testParseAllEmpty() {
+        def executor = new Executor() {
+            @Override
+            void execute(Runnable command) {
+                fail()
+            }
+        }
+        assertTrue Jwts.parser().unsecured().build().parseAll([], executor).isEmpty()
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testParseAllNullJwts() {
+        Jwts.parser().unsecured().build().parseAll(null, new Executor() {
+            @Override
+            void execute(Runnable command) {
+                command.run()
+            }
+        })
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testParseAllNullExecutor() {
+        Jwts.parser().unsecured().build().parseAll([], null)
+    }
 }
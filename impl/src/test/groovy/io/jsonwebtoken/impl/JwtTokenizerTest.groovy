@@ -17,6 +17,8 @@ package io.jsonwebtoken.impl
 
 import io.jsonwebtoken.MalformedJwtException
 import io.jsonwebtoken.impl.io.Streams
+import io.jsonwebtoken.impl.lang.CharSequenceView
+import io.jsonwebtoken.lang.Strings
 import org.junit.Before
 import org.junit.Test
 
@@ -113,4 +115,58 @@ class JwtTokenizerTest {
         assertEquals 'body', tjwe.getPayload()
         assertEquals 'authenticationTag', tjwe.getDigest()
     }
+
+    @Test
+    void testCharSequenceJws() {
+        def t = tokenizer.tokenize('header.body.digest' as CharSequence)
+        assertFalse t instanceof TokenizedJwe
+        assertTrue t.getProtected() instanceof CharSequenceView
+        assertEquals 'header', t.getProtected().toString()
+        assertEquals 'body', t.getPayload().toString()
+        assertEquals 'digest', t.getDigest().toString()
+    }
+
+    @Test
+    void testCharSequenceEmptyTokens() {
+        def t = tokenizer.tokenize(new StringBuilder('..'))
+        assertSame Strings.EMPTY, t.getProtected()
+        assertSame Strings.EMPTY, t.getPayload()
+        assertSame Strings.EMPTY, t.getDigest()
+    }
+
+    @Test
+    void testCharSequenceJwe() {
+        def input = CharBuffer.wrap('header.encryptedKey.initializationVector.body.authenticationTag')
+        TokenizedJwe t = tokenizer.tokenize(input as CharSequence)
+        assertEquals 'header', t.getProtected().toString()
+        assertEquals 'encryptedKey', t.getEncryptedKey().toString()
+        assertEquals 'initializationVector', t.getIv().toString()
+        assertEquals 'body', t.getPayload().toString()
+        assertEquals 'authenticationTag', t.getDigest().toString()
+    }
+
+    @Test
+    void testCharSequenceWhitespace() {
+        ['header .body.signature', 'header.body.sig\nnature', 'a.b.c.d\t.e'].each {
+            try {
+                tokenizer.tokenize(it as CharSequence)
+                fail()
+            } catch (MalformedJwtException expected) {
+                assertEquals 'Compact JWT strings may not contain whitespace.', expected.message
+            }
+        }
+    }
+
+    @Test
+    void testCharSequenceInvalidDelimiterCount() {
+        ['', 'a', 'a.b', 'a.b.c.d', 'a.b.c.d.e.f'].each {
+            try {
+                tokenizer.tokenize(it as CharSequence)
+                fail()
+            } catch (MalformedJwtException expected) {
+                int count = it.count('.')
+                assertTrue expected.message.endsWith("Found: $count" as String)
+            }
+        }
+    }
 }
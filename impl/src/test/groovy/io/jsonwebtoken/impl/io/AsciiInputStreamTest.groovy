@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.io
+
+import io.jsonwebtoken.impl.lang.CharSequenceView
+import org.junit.Test
+
+import java.nio.CharBuffer
+import java.nio.charset.StandardCharsets
+
+import static org.junit.Assert.*
+
+class AsciiInputStreamTest {
+
+    private static byte[] ascii(String s) {
+        def bb = StandardCharsets.US_ASCII.encode(s)
+        byte[] bytes = new byte[bb.remaining()]
+        bb.get(bytes)
+        return bytes
+    }
+
+    @Test
+    void testConcatenated() {
+        def header = CharSequenceView.of('header.payload.sig', 0, 6)
+        def payload = CharSequenceView.of('header.payload.sig', 7, 14)
+        def is = new AsciiInputStream(header, '.', payload)
+        assertArrayEquals ascii('header.payload'), Streams.bytes(is, 'test')
+        assertEquals Streams.EOF, is.read()
+    }
+
+    @Test
+    void testSmallReads() {
+        def is = new AsciiInputStream('ab', '', CharBuffer.wrap('cd'))
+        byte[] buf = new byte[3]
+        assertEquals 3, is.read(buf)
+        assertArrayEquals ascii('abc'), buf
+        assertEquals 'd' as char, is.read() as char
+        assertEquals Streams.EOF, is.read(buf)
+        assertEquals 0, is.read(buf, 0, 0)
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals Streams.EOF, new AsciiInputStream().read()
+        assertEquals Streams.EOF, new AsciiInputStream('', '').read()
+    }
+
+    @Test
+    void testNonAsciiMatchesUsAsciiEncoding() {
+        String s = 'aéb😀c\ud83ddÿ'
+        assertArrayEquals ascii(s), Streams.bytes(new AsciiInputStream(s), 'test')
+    }
+
+    @Test
+    void testSingleByteReadsMatchUsAsciiEncoding() {
+        String s = 'aéb😀c\ud83d'
+        def is = new AsciiInputStream(s, '', 'd')
+        def out = new ByteArrayOutputStream()
+        int b
+        while ((b = is.read()) != Streams.EOF) {
+            out.write(b)
+        }
+        assertArrayEquals ascii(s + 'd'), out.toByteArray()
+    }
+
+    @Test
+    void testHighByte() {
+        // bytes must be returned as unsigned values:
+        assertEquals 0x7F, new AsciiInputStream('\u007f').read()
+    }
+
+    @Test(expected = IndexOutOfBoundsException)
+    void testInvalidOffset() {
+        new AsciiInputStream('abc').read(new byte[2], 1, 2)
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testNullElement() {
+        new AsciiInputStream('abc', null)
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.io
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.jsonwebtoken.gson.io.GsonDeserializer
+import io.jsonwebtoken.io.Deserializer
+import io.jsonwebtoken.jackson.io.JacksonDeserializer
+import io.jsonwebtoken.lang.Strings
+import io.jsonwebtoken.orgjson.io.OrgJsonDeserializer
+import org.junit.Test
+
+import static org.junit.Assert.*
+
+class FlatJsonObjectReaderTest {
+
+    static final ObjectMapper MAPPER = new ObjectMapper()
+
+    private static Map<String, Object> read(String json) {
+        return FlatJsonObjectReader.read(Strings.utf8(json))
+    }
+
+    private static void assertSameAsJackson(String json) {
+        def expected = MAPPER.readValue(json, Map)
+        def actual = read(json)
+        assertEquals expected, actual
+        expected.each { k, v -> assertEquals v?.getClass(), actual.get(k)?.getClass() }
+        assertEquals new ArrayList(expected.keySet()), new ArrayList(actual.keySet()) // order is retained
+    }
+
+    @Test
+    void testTypicalHeaders() {
+        assertSameAsJackson '{"alg":"RS256","kid":"abc","typ":"JWT"}'
+        assertSameAsJackson '{"alg":"PBES2-HS256+A128KW","enc":"A128GCM","p2s":"c2FsdA","p2c":310000}'
+        assertSameAsJackson '{"alg":"HS256","b64":false}'
+        assertSameAsJackson '{}'
+    }
+
+    @Test
+    void testWhitespace() {
+        assertSameAsJackson ' \t\r\n{ "alg" : "HS256" ,\n "typ":\t"JWT" } \n'
+    }
+
+    @Test
+    void testScalars() {
+        assertSameAsJackson '{"a":true,"b":false,"c":null,"d":0,"e":-1,"f":2147483647,"g":2147483648,' +
+                '"h":-2147483648,"i":-2147483649,"j":999999999999999999,"k":-999999999999999999,"l":""}'
+    }
+
+    @Test
+    void testEscapes() {
+        assertSameAsJackson '{"a":"\\"\\\\\\/\\b\\f\\n\\r\\t","b":"\\u00e9\\u4e16\\uD83D\\uDE00","\\u0063":"x"}'
+    }
+
+    @Test
+    void testUnsupported() {
+        [
+                '{"jwk":{"kty":"oct"}}', // nested object
+                '{"crit":["exp"]}', // array
+                '{"x5c":["MIIB"],"alg":"RS256"}',
+                '{"a":1.5}', '{"a":1e3}', '{"a":1E3}', // decimals
+                '{"a":1234567890123456789}', // possibly too large for a long
+                '{"a":"世界"}', // non-ASCII
+                '{"a":"b","a":"c"}', // duplicate
+                '{"a":"b"} x', '{"a":"b"}{}', // trailing content
+        ].each { assertNull(it, read(it)) }
+    }
+
+    @Test
+    void testMalformed() {
+        [
+                '', ' ', '[]', '"a"', 'null', '{', '}', '{"a"}', '{"a":}', '{"a":"b",}', '{,}', '{"a":"b" "c":"d"}',
+                '{a:"b"}', "{'a':'b'}", '{"a":"b}', '{"a":"b\\"}', '{"a":"\\x"}', '{"a":"\\u12"}', '{"a":"\\u12G4"}',
+                '{"a":"b\nc"}', '{"a":tru}', '{"a":fals}', '{"a":nul}', '{"a":True}', '{"a":-}', '{"a":01}',
+                '{"a":+1}', '{"a":.5}', '{"a":"b"', '{"a":'
+        ].each { assertNull(it, read(it)) }
+        assertNull FlatJsonObjectReader.read(null)
+    }
+
+    @Test
+    void testIsConsistentWith() {
+        def json = '{"alg":"HS256","b64":false,"exp":1234567890,"big":12345678901,"x":null}'
+        [new JacksonDeserializer(), new OrgJsonDeserializer()].each { Deserializer d ->
+            assertTrue FlatJsonObjectReader.isConsistentWith(d)
+            def expected = d.deserialize(new StringReader(json)) as Map
+            def actual = read(json)
+            assertEquals expected, actual
+            expected.each { k, v -> assertEquals v?.getClass(), actual.get(k)?.getClass() }
+        }
+    }
+
+    @Test
+    void testIsNotConsistentWith() {
+        assertFalse FlatJsonObjectReader.isConsistentWith(null)
+        assertFalse FlatJsonObjectReader.isConsistentWith(new GsonDeserializer()) // numbers are Doubles
+        assertFalse FlatJsonObjectReader.isConsistentWith(new JacksonDeserializer() {}) // subclass may differ
+    }
+}
@@ -16,6 +16,7 @@
 package io.jsonwebtoken.impl.io
 
 import io.jsonwebtoken.MalformedJwtException
+import io.jsonwebtoken.io.AbstractDeserializer
 import io.jsonwebtoken.io.DeserializationException
 import io.jsonwebtoken.io.Deserializer
 import io.jsonwebtoken.lang.Strings
@@ -84,4 +85,60 @@ class JsonObjectDeserializerTest {
             assertSame ex, e.cause
         }
     }
+
+    @Test
+    void testBytesWithAbstractDeserializer() {
+        boolean readerUsed = false
+        def deser = new AbstractDeserializer() {
+            @Override
+            protected Object doDeserialize(Reader reader) throws Exception {
+                readerUsed = true
+                return null
+            }
+
+            @Override
+            protected Object doDeserialize(byte[] bytes, int offset, int length) throws Exception {
+                return [hello: new String(bytes, offset, length, Strings.UTF_8)]
+            }
+        }
+        def result = new JsonObjectDeserializer(deser, 'claims').apply(Strings.utf8('world'))
+        assertEquals([hello: 'world'], result)
+        assertFalse readerUsed
+    }
+
+    @Test
+    void testBytesWithDeserializer() {
+        def deser = new Deserializer() {
+            @Override
+            Object deserialize(byte[] bytes) throws DeserializationException {
+                fail() // should not be called in this test
+                return null
+            }
+
+            @Override
+            Object deserialize(Reader reader) throws DeserializationException {
+                return [hello: reader.text]
+            }
+        }
+        def result = new JsonObjectDeserializer(deser, 'claims').apply(Strings.utf8('world'))
+        assertEquals([hello: 'world'], result)
+    }
+
+    @Test
+    void testBytesNotJsonObject() {
+        def deser = new AbstractDeserializer() {
+            @Override
+            protected Object doDeserialize(Reader reader) throws Exception {
+                return 'hello'
+            }
+        }
+        try {
+            new JsonObjectDeserializer(deser, 'claims').apply(Strings.utf8('"hello"'))
+            fail()
+        } catch (MalformedJwtException e) {
+            String msg = String.format(JsonObjectDeserializer.MALFORMED_ERROR, 'claims',
+                    'Deserialized data is not a JSON Object; cannot create Map<String,?>')
+            assertEquals msg, e.message
+        }
+    }
 }
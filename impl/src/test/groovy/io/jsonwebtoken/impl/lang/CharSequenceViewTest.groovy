@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.lang
+
+import io.jsonwebtoken.lang.Strings
+import org.junit.Test
+
+import static org.junit.Assert.*
+
+class CharSequenceViewTest {
+
+    @Test
+    void testOf() {
+        def s = 'hello.world'
+        def view = CharSequenceView.of(s, 6, 11)
+        assertTrue view instanceof CharSequenceView
+        assertEquals 5, view.length()
+        assertEquals 'w' as char, view.charAt(0)
+        assertEquals 'd' as char, view.charAt(4)
+        assertEquals 'world', view.toString()
+    }
+
+    @Test
+    void testEmptyRange() {
+        assertSame Strings.EMPTY, CharSequenceView.of('hello', 2, 2)
+    }
+
+    @Test
+    void testEntireRange() {
+        def s = 'hello'
+        assertSame s, CharSequenceView.of(s, 0, 5)
+    }
+
+    @Test
+    void testInvalidRanges() {
+        [[-1, 2], [0, 6], [3, 2]].each { r ->
+            try {
+                CharSequenceView.of('hello', r[0], r[1])
+                fail()
+            } catch (IndexOutOfBoundsException expected) {
+            }
+        }
+    }
+
+    @Test
+    void testCharAtOutOfBounds() {
+        def view = CharSequenceView.of('hello.world', 6, 11)
+        [-1, 5].each {
+            try {
+                view.charAt(it)
+                fail()
+            } catch (IndexOutOfBoundsException expected) {
+            }
+        }
+    }
+
+    @Test
+    void testSubSequence() {
+        def view = CharSequenceView.of('hello.world', 6, 11)
+        assertEquals 'orl', view.subSequence(1, 4).toString()
+        assertSame Strings.EMPTY, view.subSequence(2, 2)
+        try {
+            view.subSequence(2, 6)
+            fail()
+        } catch (IndexOutOfBoundsException expected) {
+        }
+    }
+}
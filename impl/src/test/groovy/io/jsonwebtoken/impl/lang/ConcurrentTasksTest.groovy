@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.lang
+
+import org.junit.Test
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+import static org.junit.Assert.*
+
+class ConcurrentTasksTest {
+
+    private static List<Runnable> counting(int n, AtomicInteger[] counts) {
+        List<Runnable> tasks = []
+        for (int i = 0; i < n; i++) {
+            final int index = i
+            counts[i] = new AtomicInteger()
+            tasks.add(new Runnable() {
+                @Override
+                void run() {
+                    counts[index].incrementAndGet()
+                }
+            })
+        }
+        return tasks
+    }
+
+    @Test
+    void testRunsEachTaskOnce() {
+        int n = 100
+        def counts = new AtomicInteger[n]
+        def pool = Executors.newFixedThreadPool(4)
+        try {
+            ConcurrentTasks.runAll(counting(n, counts), pool, 'interrupted')
+        } finally {
+            pool.shutdown()
+        }
+        counts.each { assertEquals 1, it.get() }
+    }
+
+    @Test
+    void testCallingThreadRunsUnstartedTasks() {
+        def counts = new AtomicInteger[3]
+        List<Runnable> queued = []
+        def executor = new Executor() { // never runs anything itself
+            @Override
+            void execute(Runnable command) {
+                queued.add(command)
+            }
+        }
+        ConcurrentTasks.runAll(counting(3, counts), executor, 'interrupted')
+        counts.each { assertEquals 1, it.get() }
+        queued.each { it.run() } // late execution by the executor is a no-op
+        counts.each { assertEquals 1, it.get() }
+    }
+
+    @Test
+    void testRejectedTasksRunOnCallingThread() {
+        def counts = new AtomicInteger[2]
+        def executor = new Executor() {
+            @Override
+            void execute(Runnable command) {
+                throw new RejectedExecutionException()
+            }
+        }
+        ConcurrentTasks.runAll(counting(2, counts), executor, 'interrupted')
+        counts.each { assertEquals 1, it.get() }
+    }
+
+    @Test
+    void testFromExecutorThread() {
+        def counts = new AtomicInteger[10]
+        def executor = Executors.newSingleThreadExecutor()
+        try {
+            executor.submit({
+                ConcurrentTasks.runAll(counting(10, counts), executor, 'interrupted')
+            } as Callable<Object>).get(30, TimeUnit.SECONDS)
+        } finally {
+            executor.shutdownNow()
+        }
+        counts.each { assertEquals 1, it.get() }
+    }
+
+    @Test
+    void testWaitsForRunningTasks() {
+        def started = new CountDownLatch(1)
+        def release = new CountDownLatch(1)
+        def done = false
+        Runnable slow = new Runnable() {
+            @Override
+            void run() {
+                started.countDown()
+                release.await()
+                done = true
+            }
+        }
+        def executor = new Executor() {
+            @Override
+            void execute(Runnable command) {
+                Thread.start { command.run() }
+                started.await() // ensure the executor thread claims the task first
+            }
+        }
+        Thread.start { Thread.sleep(100); release.countDown() }
+        ConcurrentTasks.runAll([slow], executor, 'interrupted')
+        assertTrue done
+    }
+
+    @Test
+    void testFirstExceptionRethrownAfterAllTasks() {
+        def counts = new AtomicInteger[2]
+        List<Runnable> tasks = counting(2, counts)
+        def ex = new IllegalStateException('test')
+        tasks.add(0, new Runnable() {
+            @Override
+            void run() {
+                throw ex
+            }
+        })
+        def executor = new Executor() {
+            @Override
+            void execute(Runnable command) {
+                command.run()
+            }
+        }
+        try {
+            ConcurrentTasks.runAll(tasks, executor, 'interrupted')
+            fail()
+        } catch (IllegalStateException expected) {
+            assertSame ex, expected
+        }
+        counts.each { assertEquals 1, it.get() }
+    }
+
+    @Test
+    void testErrorRethrown() {
+        def error = new AssertionError('test')
+        def executor = new Executor() {
+            @Override
+            void execute(Runnable command) {
+                command.run()
+            }
+        }
+        try {
+            ConcurrentTasks.runAll([new Runnable() {
+                @Override
+                void run() {
+                    throw error
+                }
+            }], executor, 'interrupted')
+            fail()
+        } catch (AssertionError expected) {
+            assertSame error, expected
+        }
+    }
+
+    @Test
+    void testInterrupted() {
+        def started = new CountDownLatch(1)
+        def release = new CountDownLatch(1)
+        Runnable blocking = new Runnable() {
+            @Override
+            void run() {
+                started.countDown()
+                release.await()
+            }
+        }
+        def executor = new Executor() {
+            @Override
+            void execute(Runnable command) {
+                Thread.start { command.run() }
+                started.await() // the executor thread has claimed the task
+                Thread.currentThread().interrupt()
+            }
+        }
+        try {
+            ConcurrentTasks.runAll([blocking], executor, 'interrupted')
+            fail()
+        } catch (IllegalStateException expected) {
+            assertEquals 'interrupted', expected.getMessage()
+            assertTrue Thread.interrupted() // clears the flag
+        } finally {
+            release.countDown()
+        }
+    }
+}
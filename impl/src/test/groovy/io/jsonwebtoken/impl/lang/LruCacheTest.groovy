@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.lang
+
+import org.junit.Test
+
+import static org.junit.Assert.*
+
+class LruCacheTest {
+
+    @Test(expected = IllegalArgumentException)
+    void testZeroCapacity() {
+        new LruCache(0)
+    }
+
+    @Test
+    void testGetPut() {
+        def cache = new LruCache<String, String>(2)
+        assertNull cache.get('a')
+        cache.put('a', 'A')
+        assertEquals 'A', cache.get('a')
+        assertEquals 1, cache.size()
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        def cache = new LruCache<String, String>(2)
+        cache.put('a', 'A')
+        cache.put('b', 'B')
+        cache.get('a') // a is now more recently used than b
+        cache.put('c', 'C')
+        assertEquals 2, cache.size()
+        assertNull cache.get('b')
+        assertEquals 'A', cache.get('a')
+        assertEquals 'C', cache.get('c')
+    }
+
+    @Test
+    void testExpiration() {
+        def cache = new LruCache<String, String>(2)
+        cache.put('a', 'A', 100)
+        assertEquals 'A', cache.get('a', 99)
+        assertEquals 1, cache.size()
+        assertNull cache.get('a', 100)
+        assertEquals 0, cache.size() // expired entries are removed
+    }
+
+    @Test
+    void testNoExpiration() {
+        def cache = new LruCache<String, String>(2)
+        cache.put('a', 'A')
+        assertEquals 'A', cache.get('a', Long.MAX_VALUE - 1)
+    }
+
+    @Test
+    void testClear() {
+        def cache = new LruCache<String, String>(2)
+        cache.put('a', 'A')
+        cache.clear()
+        assertEquals 0, cache.size()
+        assertNull cache.get('a')
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testNullKey() {
+        new LruCache<String, String>(2).put(null, 'A')
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testNullValue() {
+        new LruCache<String, String>(2).put('a', null)
+    }
+}
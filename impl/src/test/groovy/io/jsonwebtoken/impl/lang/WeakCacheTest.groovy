@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.lang
+
+import org.junit.Test
+
+import static org.junit.Assert.*
+
+class WeakCacheTest {
+
+    @Test
+    void testIdentity() {
+        def cache = WeakCache.<String> identity(1024)
+        String a = new String('a')
+        String equal = new String('a')
+        assertFalse cache.contains(a)
+        cache.add(a)
+        assertTrue cache.contains(a)
+        assertFalse cache.contains(equal)
+        cache.add(a)
+        assertEquals 1, cache.size()
+    }
+
+    @Test
+    void testIdentityValuesAreTheirOwnKeys() {
+        def cache = WeakCache.<String> identity(16)
+        try {
+            cache.put(new String('a'), new String('a'))
+            fail()
+        } catch (IllegalArgumentException expected) {
+            assertEquals 'Identity cache values must be their own keys.', expected.getMessage()
+        }
+    }
+
+    @Test
+    void testEquals() {
+        def cache = WeakCache.<String, Object> of(16)
+        Object value = new Object()
+        cache.put('a', value)
+        assertSame value, cache.get(new String('a'))
+        assertNull cache.get('b')
+        Object replacement = new Object()
+        cache.put('a', replacement)
+        assertSame replacement, cache.get('a')
+        assertEquals 1, cache.size()
+    }
+
+    @Test
+    void testSlotCollisionReplaces() {
+        def cache = WeakCache.<Integer, Object> of(1)
+        Object a = new Object()
+        Object b = new Object()
+        cache.put(1, a)
+        cache.put(2, b)
+        assertNull cache.get(1) // forgotten
+        assertSame b, cache.get(2)
+    }
+
+    @Test
+    void testNull() {
+        def cache = WeakCache.<Object> identity(16)
+        assertFalse cache.contains(null)
+        assertNull cache.get(null)
+        try {
+            cache.add(null)
+            fail()
+        } catch (IllegalArgumentException expected) {
+            assertEquals 'Key cannot be null.', expected.getMessage()
+        }
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testInvalidCapacity() {
+        WeakCache.of(0)
+    }
+
+    @Test
+    void testCollectedValuesNotReturned() {
+        def cache = WeakCache.<Object> identity(1024)
+        Object retained = new Object()
+        cache.add(new Object())
+        cache.add(retained) // added last, so retained even if both use the same slot
+        for (int i = 0; i < 50 && cache.size() > 1; i++) {
+            System.gc()
+            Thread.sleep(10)
+        }
+        assertEquals 1, cache.size()
+        assertTrue cache.contains(retained)
+    }
+}
@@ -24,6 +24,7 @@ import org.junit.Test
 
 import javax.crypto.SecretKey
 import java.security.Key
+import java.security.MessageDigest
 
 import static org.junit.Assert.*
 
@@ -169,4 +170,66 @@ class AbstractJwkTest {
         SecretJwk jwk = Jwks.builder().key(TestKeys.HS256).build()
         assertFalse jwk.equals(42)
     }
+
+    @Test
+    void testThumbprintIsCachedPerHashAlgorithm() {
+        def jwk = Jwks.builder().key(TestKeys.RS256.pair.public).build()
+        def sha256 = jwk.thumbprint()
+        assertSame sha256, jwk.thumbprint(Jwks.HASH.SHA256)
+        def sha384 = jwk.thumbprint(Jwks.HASH.SHA384)
+        assertSame sha384, jwk.thumbprint(Jwks.HASH.SHA384)
+        assertNotEquals sha256, sha384
+    }
+
+    @Test
+    void testThumbprintFastPathMatchesCanonicalJson() {
+        def jwks = [Jwks.builder().key(TestKeys.HS256).build(),
+                    Jwks.builder().key(TestKeys.RS256.pair.public).build(),
+                    Jwks.builder().key(TestKeys.ES256.pair.private).build(),
+                    Jwks.builder().key(TestKeys.Ed25519.pair.public).build()]
+        for (Jwk<?> jwk : jwks) {
+            def custom = new TestHashAlgorithm(Jwks.HASH.SHA256) // not a DefaultHashAlgorithm, uses String JSON
+            assertArrayEquals jwk.thumbprint(custom).toByteArray(), jwk.thumbprint().toByteArray()
+        }
+    }
+
+    @Test
+    void testThumbprintDoesNotPoolMessageDigests() {
+        JcaInstancePool.clear()
+        try {
+            Jwks.builder().key(TestKeys.RS256.pair.public).build().thumbprint()
+            assertNull JcaInstancePool.INSTANCE.take(MessageDigest, 'SHA-256', null)
+        } finally {
+            JcaInstancePool.clear()
+        }
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testThumbprintNullHashAlgorithm() {
+        jwk.thumbprint(null)
+    }
+
+    static class TestHashAlgorithm implements io.jsonwebtoken.security.HashAlgorithm {
+
+        final io.jsonwebtoken.security.HashAlgorithm delegate
+
+        TestHashAlgorithm(io.jsonwebtoken.security.HashAlgorithm delegate) {
+            this.delegate = delegate
+        }
+
+        @Override
+        byte[] digest(io.jsonwebtoken.security.Request<InputStream> request) {
+            return delegate.digest(request)
+        }
+
+        @Override
+        boolean verify(io.jsonwebtoken.security.VerifyDigestRequest request) {
+            return delegate.verify(request)
+        }
+
+        @Override
+        String getId() {
+            return delegate.getId()
+        }
+    }
 }
@@ -21,15 +21,16 @@ import io.jsonwebtoken.lang.Strings
 import io.jsonwebtoken.security.SecureRequest
 import io.jsonwebtoken.security.SignatureException
 import io.jsonwebtoken.security.VerifySecureDigestRequest
+import io.jsonwebtoken.security.WeakKeyException
 import org.junit.Test
 
+import javax.crypto.spec.SecretKeySpec
 import java.security.Key
 import java.security.Provider
 import java.security.PublicKey
 import java.security.Security
 
-import static org.junit.Assert.assertSame
-import static org.junit.Assert.assertTrue
+import static org.junit.Assert.*
 
 class AbstractSecureDigestAlgorithmTest {
 
@@ -87,6 +88,58 @@ class AbstractSecureDigestAlgorithmTest {
         }
     }
 
+    @Test
+    void testValidatedKeysAreRemembered() {
+        def validated = []
+        def alg = new TestAbstractSecureDigestAlgorithm() {
+            @Override
+            protected void validateKey(Key key, boolean signing) {
+                validated.add([key, signing])
+                if (key.getEncoded().length < 32) {
+                    throw new WeakKeyException('weak')
+                }
+            }
+        }
+        def key = TestKeys.HS256
+        def equal = new SecretKeySpec(key.getEncoded(), key.getAlgorithm())
+        def weak = new SecretKeySpec(new byte[16], 'HmacSHA256')
+        def sign = { k -> alg.digest(new DefaultSecureRequest(Streams.of(Strings.utf8('foo')), null, null, k)) }
+        def verify = { k ->
+            alg.verify(new DefaultVerifySecureDigestRequest(Streams.of(Strings.utf8('foo')), null, null, k, new byte[1]))
+        }
+
+        sign(key)
+        sign(key)
+        assertEquals([[key, true]], validated)
+        verify(key) // verification is validated separately from signing
+        verify(key)
+        assertEquals([[key, true], [key, false]], validated)
+        sign(equal) // identity only, equal keys are validated too
+        assertEquals 3, validated.size()
+
+        2.times {
+            try {
+                sign(weak)
+                fail()
+            } catch (WeakKeyException expected) {
+            }
+        }
+        assertEquals 5, validated.size() // invalid keys are always re-validated
+    }
+
+    @Test
+    void testMacKeyValidationMemoized() {
+        def key = TestKeys.HS256
+        byte[] data = Strings.utf8('foo')
+        byte[] sig = Jwts.SIG.HS256.digest(new DefaultSecureRequest(Streams.of(data), null, null, key))
+        assertArrayEquals sig, Jwts.SIG.HS256.digest(new DefaultSecureRequest(Streams.of(data), null, null, key))
+        try { // already validated for HS256, but not for HS512:
+            Jwts.SIG.HS512.digest(new DefaultSecureRequest(Streams.of(data), null, null, key))
+            fail()
+        } catch (WeakKeyException expected) {
+        }
+    }
+
     class TestAbstractSecureDigestAlgorithm extends AbstractSecureDigestAlgorithm {
 
         TestAbstractSecureDigestAlgorithm() {
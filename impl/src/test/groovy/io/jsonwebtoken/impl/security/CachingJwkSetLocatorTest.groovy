@@ -0,0 +1,280 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.security
+
+import io.jsonwebtoken.Clock
+import io.jsonwebtoken.Jwts
+import io.jsonwebtoken.impl.DefaultJweHeader
+import io.jsonwebtoken.impl.DefaultJwsHeader
+import io.jsonwebtoken.impl.lang.Services
+import io.jsonwebtoken.io.Serializer
+import io.jsonwebtoken.lang.Supplier
+import io.jsonwebtoken.security.Jwk
+import io.jsonwebtoken.security.Jwks
+import io.jsonwebtoken.security.SecurityException
+import org.junit.Before
+import org.junit.Test
+
+import java.nio.file.Files
+import java.security.interfaces.ECPublicKey
+import java.util.concurrent.Executor
+import java.util.concurrent.TimeUnit
+
+import static org.junit.Assert.*
+
+class CachingJwkSetLocatorTest {
+
+    static final Executor SAME_THREAD = new Executor() {
+        @Override
+        void execute(Runnable command) {
+            command.run()
+        }
+    }
+
+    static final Jwk<?> A = Jwks.builder().key(TestKeys.ES256.pair.public as ECPublicKey).id('a').build()
+    static final Jwk<?> B = Jwks.builder().key(TestKeys.ES384.pair.public as ECPublicKey).id('b').build()
+
+    long now
+    int loads
+    boolean failing
+    List<Jwk<?>> published
+    Clock clock
+    Supplier<InputStream> source
+
+    @Before
+    void setUp() {
+        now = System.currentTimeMillis()
+        loads = 0
+        failing = false
+        published = [A]
+        clock = new Clock() {
+            @Override
+            Date now() {
+                return new Date(now)
+            }
+        }
+        source = new Supplier<InputStream>() {
+            @Override
+            InputStream get() {
+                loads++
+                if (failing) {
+                    throw new IllegalStateException('unavailable')
+                }
+                return new ByteArrayInputStream(json(published))
+            }
+        }
+    }
+
+    static byte[] json(List<Jwk<?>> jwks) {
+        def out = new ByteArrayOutputStream()
+        Services.get(Serializer).serialize([keys: jwks], out)
+        return out.toByteArray()
+    }
+
+    CachingJwkSetLocator.Builder builder() {
+        return CachingJwkSetLocator.builder(source).clock(clock).executor(SAME_THREAD)
+    }
+
+    static def jws(String kid, String alg = 'ES256') {
+        return new DefaultJwsHeader([kid: kid, alg: alg])
+    }
+
+    @Test
+    void testLocateById() {
+        def locator = builder().build()
+        assertEquals A.toKey(), locator.locate(jws('a'))
+        assertEquals A.toKey(), locator.locate(jws('a'))
+        assertEquals 1, loads
+    }
+
+    @Test
+    void testUnknownKidRefreshes() {
+        def locator = builder().build()
+        assertEquals A.toKey(), locator.locate(jws('a'))
+        published = [A, B]
+        now += CachingJwkSetLocator.DEFAULT_MIN_REFRESH_INTERVAL_MILLIS
+        assertEquals B.toKey(), locator.locate(jws('b', 'ES384'))
+        assertEquals 2, loads
+    }
+
+    @Test
+    void testUnknownKidRefreshIsRateLimited() {
+        def locator = builder().minRefreshInterval(1, TimeUnit.MINUTES).build()
+        assertEquals A.toKey(), locator.locate(jws('a'))
+        assertNull locator.locate(jws('unknown'))
+        assertEquals 1, loads // within the minimum refresh interval of the initial load
+        now += 60000
+        assertNull locator.locate(jws('unknown'))
+        assertNull locator.locate(jws('unknown'))
+        assertEquals 2, loads
+    }
+
+    @Test
+    void testBackgroundRefresh() {
+        List<Runnable> tasks = java.util.Collections.synchronizedList([])
+        def locator = builder().refreshInterval(5, TimeUnit.MINUTES).executor(new Executor() {
+            @Override
+            void execute(Runnable command) {
+                tasks.add(command)
+            }
+        }).build()
+        assertEquals A.toKey(), locator.locate(jws('a')) // initial load is performed by the waiting caller
+        assertEquals 1, tasks.size()
+        tasks.remove(0).run() // already run, so a no-op
+        assertEquals 1, loads
+
+        published = [B]
+        now += TimeUnit.MINUTES.toMillis(5)
+        assertEquals A.toKey(), locator.locate(jws('a')) // stale, but doesn't wait for the refresh
+        assertEquals 1, tasks.size()
+        assertEquals A.toKey(), locator.locate(jws('a')) // refresh already in progress
+        assertEquals 1, tasks.size()
+        tasks.remove(0).run()
+        assertNull locator.locate(jws('a', 'ES384')) // rotated out, and unknown kid refresh is rate-limited
+        assertEquals B.toKey(), locator.locate(jws('b', 'ES384'))
+        assertEquals 2, loads
+    }
+
+    @Test
+    void testServesStaleOnFailure() {
+        def locator = builder().build()
+        assertEquals A.toKey(), locator.locate(jws('a'))
+        failing = true
+        now += CachingJwkSetLocator.DEFAULT_REFRESH_INTERVAL_MILLIS
+        assertEquals A.toKey(), locator.locate(jws('a'))
+        assertEquals 2, loads
+    }
+
+    @Test
+    void testInitialLoadFailure() {
+        failing = true
+        def locator = builder().build()
+        try {
+            locator.locate(jws('a'))
+            fail()
+        } catch (SecurityException expected) {
+            assertEquals 'Unable to load JWK Set: unavailable', expected.getMessage()
+        }
+        try {
+            locator.locate(jws('a'))
+            fail()
+        } catch (SecurityException expected) { // rate-limited, source not consulted again
+            assertEquals 'Unable to load JWK Set: unavailable', expected.getMessage()
+        }
+        assertEquals 1, loads
+        failing = false
+        now += CachingJwkSetLocator.DEFAULT_MIN_REFRESH_INTERVAL_MILLIS
+        assertEquals A.toKey(), locator.locate(jws('a'))
+    }
+
+    @Test
+    void testSingleFlight() {
+        List<Runnable> tasks = java.util.Collections.synchronizedList([])
+        def locator = builder().executor(new Executor() {
+            @Override
+            void execute(Runnable command) {
+                tasks.add(command)
+            }
+        }).build()
+        def results = java.util.Collections.synchronizedList([])
+        def threads = (0..<4).collect { Thread.start { results.add(locator.locate(jws('a'))) } }
+        threads*.join()
+        assertEquals([A.toKey()] * 4, results)
+        assertEquals 1, tasks.size()
+        assertEquals 1, loads
+    }
+
+    @Test
+    void testUnstartedRefreshRunsOnCallingThread() {
+        // an executor whose threads are all busy, e.g. with requests waiting for the refresh, never starts it:
+        List<Runnable> tasks = []
+        def locator = builder().executor(new Executor() {
+            @Override
+            void execute(Runnable command) {
+                tasks.add(command)
+            }
+        }).build()
+        assertEquals A.toKey(), locator.locate(jws('a'))
+        published = [A, B]
+        now += CachingJwkSetLocator.DEFAULT_MIN_REFRESH_INTERVAL_MILLIS
+        assertEquals B.toKey(), locator.locate(jws('b', 'ES384'))
+        assertEquals 2, tasks.size()
+        assertEquals 2, loads
+        tasks*.run() // no-ops
+        assertEquals 2, loads
+    }
+
+    @Test
+    void testRejectedRefreshRunsOnCallingThread() {
+        def locator = builder().executor(new Executor() {
+            @Override
+            void execute(Runnable command) {
+                throw new java.util.concurrent.RejectedExecutionException()
+            }
+        }).build()
+        assertEquals A.toKey(), locator.locate(jws('a'))
+    }
+
+    @Test
+    void testUseAndAlgorithm() {
+        def sig = Jwks.builder().key(TestKeys.ES256.pair.public as ECPublicKey).id('a').publicKeyUse('sig').build()
+        published = [sig]
+        def locator = builder().build()
+        assertEquals sig.toKey(), locator.locate(jws('a'))
+        assertNull locator.locate(new DefaultJweHeader([kid: 'a', alg: 'ECDH-ES', enc: 'A128GCM']))
+    }
+
+    @Test
+    void testWithoutKid() {
+        def locator = builder().build()
+        assertEquals A.toKey(), locator.locate(jws(null)) // the only key
+        published = [A, B]
+        now += CachingJwkSetLocator.DEFAULT_REFRESH_INTERVAL_MILLIS
+        locator.locate(jws(null)) // refreshes
+        assertNull locator.locate(jws(null)) // ambiguous, never guess
+    }
+
+    @Test
+    void testPath() {
+        def file = Files.createTempFile('jwks', '.json')
+        try {
+            Files.write(file, json([A, B]))
+            def locator = CachingJwkSetLocator.builder(file).executor(SAME_THREAD).build()
+            assertEquals B.toKey(), locator.locate(jws('b', 'ES384'))
+        } finally {
+            Files.delete(file)
+        }
+    }
+
+    @Test
+    void testParser() {
+        def pair = TestKeys.ES256.pair
+        def locator = builder().build()
+        def jws = Jwts.builder().header().keyId('a').and().subject('me').signWith(pair.private).compact()
+        def parser = Jwts.parser().keyLocator(locator).build()
+        assertEquals 'me', parser.parseSignedClaims(jws).getPayload().getSubject()
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testInvalidRefreshInterval() {
+        builder().refreshInterval(0, TimeUnit.SECONDS)
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testInvalidMinRefreshInterval() {
+        builder().minRefreshInterval(-1, TimeUnit.SECONDS)
+    }
+}
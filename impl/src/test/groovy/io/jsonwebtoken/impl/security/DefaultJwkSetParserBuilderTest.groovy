@@ -24,6 +24,11 @@ import io.jsonwebtoken.security.MalformedKeySetException
 import org.junit.Before
 import org.junit.Test
 
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.atomic.AtomicInteger
+
 import static org.junit.Assert.*
 
 class DefaultJwkSetParserBuilderTest {
@@ -206,4 +211,62 @@ class DefaultJwkSetParserBuilderTest {
         String msg = "JWK Set keys[0]: Secret JWK is missing required ${DefaultSecretJwk.K} value."
         assertMalformed '{"keys":[{"kty":"oct"}]}', msg
     }
+
+    private static String jwkSetJson(List<java.security.Key> keys, List<String> extra = []) {
+        def elements = keys.collect { Jwks.UNSAFE_JSON(Jwks.builder().key(it).build()) } + extra
+        return '{"keys":[' + elements.join(',') + ']}'
+    }
+
+    @Test
+    void testExecutorPreservesOrder() {
+        def keys = [TestKeys.RS256.pair.public, TestKeys.ES256.pair.public, TestKeys.HS256,
+                    TestKeys.Ed25519.pair.public, TestKeys.RS384.pair.public, TestKeys.ES384.pair.public]
+        String json = jwkSetJson(keys, ['{"kty":"oct"}']) // unsupported element is ignored by default
+        def pool = Executors.newFixedThreadPool(4)
+        try {
+            JwkSet expected = parser.parse(json)
+            JwkSet result = builder().executor(pool).build().parse(json)
+            assertEquals expected, result
+            assertEquals keys, result.getKeys().collect { it.toKey() }
+        } finally {
+            pool.shutdownNow()
+        }
+    }
+
+    @Test
+    void testExecutorUsed() {
+        def count = new AtomicInteger()
+        Executor executor = new Executor() {
+            @Override
+            void execute(Runnable command) {
+                count.incrementAndGet()
+                new Thread(command).start()
+            }
+        }
+        JwkSet result = builder().executor(executor).build()
+                .parse(jwkSetJson([TestKeys.RS256.pair.public, TestKeys.ES256.pair.public]))
+        assertEquals 2, result.getKeys().size()
+        assertEquals 2, count.get()
+    }
+
+    @Test
+    void testExecutorReportsFirstFailingElement() {
+        parser = builder().executor(Executors.newCachedThreadPool()).ignoreUnsupported(false).build()
+        String json = jwkSetJson([TestKeys.RS256.pair.public], ['{"kty":"oct"}', '{"kty":""}'])
+        String msg = "JWK Set keys[1]: Secret JWK is missing required ${DefaultSecretJwk.K} value."
+        assertMalformed json, msg
+    }
+
+    @Test
+    void testExecutorRejectionRunsOnCallingThread() {
+        Executor rejecting = new Executor() {
+            @Override
+            void execute(Runnable command) {
+                throw new RejectedExecutionException('test')
+            }
+        }
+        def keys = [TestKeys.RS256.pair.public, TestKeys.ES256.pair.public]
+        JwkSet result = builder().executor(rejecting).build().parse(jwkSetJson(keys))
+        assertEquals keys, result.getKeys().collect { it.toKey() }
+    }
 }
@@ -16,9 +16,15 @@
 package io.jsonwebtoken.impl.security
 
 import io.jsonwebtoken.impl.lang.RedactedSupplier
+import io.jsonwebtoken.security.Jwk
+import io.jsonwebtoken.security.JwkSet
 import io.jsonwebtoken.security.Jwks
+import io.jsonwebtoken.security.RsaPublicJwk
 import org.junit.Test
 
+import java.security.interfaces.ECPublicKey
+import java.security.interfaces.RSAPublicKey
+
 import static org.junit.Assert.*
 
 class DefaultJwkSetTest {
@@ -77,4 +83,68 @@ class DefaultJwkSetTest {
         def result = set.get('keys')
         assertTrue result instanceof RedactedSupplier
     }
+
+    private static JwkSet selectorTestSet() {
+        def rsa = Jwks.builder().key(TestKeys.RS256.pair.public as RSAPublicKey).x509Chain(TestKeys.RS256.chain)
+                .x509Sha1Thumbprint(true).x509Sha256Thumbprint(true).id('rsa').publicKeyUse('sig').build()
+        def ec = Jwks.builder().key(TestKeys.ES256.pair.public as ECPublicKey).id('ec').publicKeyUse('enc')
+                .algorithm('ECDH-ES').build()
+        def ecSig = Jwks.builder().key(TestKeys.ES384.pair.public as ECPublicKey).id('ec').build() // duplicate kid
+        def hmac = Jwks.builder().key(TestKeys.HS256).id('hmac').operations().add(Jwks.OP.SIGN).and().build()
+        return Jwks.set().add(rsa).add(ec).add(ecSig).add(hmac).build()
+    }
+
+    @Test
+    void testSelectById() {
+        def set = selectorTestSet()
+        def keys = set.getKeys() as List
+        assertEquals([keys[0]] as Set, set.select().id('rsa').get())
+        assertEquals([keys[1], keys[2]], set.select().id('ec').get() as List) // set order
+        assertTrue set.select().id('missing').get().isEmpty()
+        assertEquals set.getKeys(), set.select().get() // no criteria
+        assertEquals set.getKeys(), set.select().id('rsa').id(null).get() // cleared
+    }
+
+    @Test
+    void testSelectByX509Thumbprints() {
+        def set = selectorTestSet()
+        def rsa = set.select().id('rsa').get().iterator().next() as RsaPublicJwk
+        assertEquals([rsa] as Set, set.select().x509Sha1Thumbprint(rsa.getX509Sha1Thumbprint()).get())
+        assertEquals([rsa] as Set, set.select().x509Sha256Thumbprint(rsa.getX509Sha256Thumbprint()).get())
+        assertTrue set.select().x509Sha256Thumbprint(rsa.getX509Sha1Thumbprint()).get().isEmpty()
+        assertTrue set.select().x509Sha1Thumbprint(rsa.getX509Sha1Thumbprint()).id('ec').get().isEmpty()
+    }
+
+    @Test
+    void testSelectByThumbprint() {
+        def set = selectorTestSet()
+        set.getKeys().each { Jwk<?> jwk ->
+            assertEquals([jwk] as Set, set.select().thumbprint(jwk.thumbprint()).get())
+            assertEquals([jwk] as Set, set.select().thumbprint(jwk.thumbprint(Jwks.HASH.SHA384)).get())
+        }
+        def other = Jwks.builder().key(TestKeys.HS384).build()
+        assertTrue set.select().thumbprint(other.thumbprint()).get().isEmpty()
+    }
+
+    @Test
+    void testSelectFilters() {
+        def set = selectorTestSet()
+        def keys = set.getKeys() as List
+        // JWKs without a 'use' member are unrestricted, so they match:
+        assertEquals([keys[0], keys[2], keys[3]], set.select().use('sig').get() as List)
+        assertEquals([keys[1], keys[2], keys[3]], set.select().use('enc').get() as List)
+        assertEquals([keys[2]], set.select().id('ec').use('sig').get() as List)
+        // JWKs without 'key_ops' are unrestricted:
+        assertEquals(keys, set.select().operation(Jwks.OP.SIGN).get() as List)
+        assertEquals(keys[0..2], set.select().operation(Jwks.OP.VERIFY).get() as List)
+        // JWKs without 'alg' are unrestricted:
+        assertEquals([keys[0], keys[2]], set.select().algorithm('ES384').get() as List) // hmac has alg HS256
+        assertEquals([keys[0], keys[2], keys[3]], set.select().algorithm('HS256').get() as List)
+        assertEquals([keys[2]], set.select().id('ec').algorithm('ES384').get() as List)
+    }
+
+    @Test(expected = UnsupportedOperationException)
+    void testSelectResultImmutable() {
+        selectorTestSet().select().id('rsa').get().clear()
+    }
 }
@@ -98,6 +98,62 @@ class ECCurveTest {
         assertFalse(ECCurve.P256.contains(new ECPoint(BigInteger.ONE, BigInteger.ONE)))
     }
 
+    @Test
+    void testContainsAndRememberValidatedPoints() {
+        ECCurve.VALUES.each { curve ->
+            ECPoint w = ((ECPublicKey) curve.keyPair().build().getPublic()).getW()
+            assertFalse curve.isValidated(w)
+            assertTrue curve.containsAndRemember(w)
+            assertTrue curve.isValidated(new ECPoint(w.getAffineX(), w.getAffineY()))
+            assertTrue curve.containsAndRemember(w)
+            // same coordinates on a different curve must still be fully validated:
+            ECCurve.VALUES.findAll { it != curve }.each { other ->
+                assertFalse other.isValidated(w)
+                assertFalse other.containsAndRemember(w)
+            }
+        }
+    }
+
+    @Test
+    void testContainsAndRememberIgnoresInvalidPoints() {
+        ECPoint w = ((ECPublicKey) ECCurve.P256.keyPair().build().getPublic()).getW()
+        def invalid = new ECPoint(w.getAffineX(), w.getAffineY().add(BigInteger.ONE))
+        assertFalse ECCurve.P256.containsAndRemember(invalid)
+        assertFalse ECCurve.P256.isValidated(invalid)
+        assertFalse ECCurve.P256.containsAndRemember(invalid)
+        assertFalse ECCurve.P256.containsAndRemember(ECPoint.POINT_INFINITY)
+    }
+
+    @Test
+    void testContainsDoesNotRemember() {
+        def key = ECCurve.P256.keyPair().build().getPublic() as ECPublicKey
+        ECPoint w = key.getW()
+        assertTrue ECCurve.P256.contains(w)
+        assertTrue ECCurve.P256.contains(key)
+        assertFalse ECCurve.P256.isValidated(w)
+        assertSame ECCurve.P256, ECCurve.findByKey(key)
+        assertTrue ECCurve.P256.isValidated(w)
+    }
+
+    @Test
+    void testContainsOutOfFieldRange() {
+        ECPoint w = ((ECPublicKey) ECCurve.P256.keyPair().build().getPublic()).getW()
+        BigInteger p = ((java.security.spec.ECFieldFp) ECCurve.P256.toParameterSpec().getCurve().getField()).getP()
+        // congruent mod p, but not a canonical field element:
+        assertFalse ECCurve.P256.contains(new ECPoint(w.getAffineX().add(p), w.getAffineY()))
+    }
+
+    @Test
+    void testValidatedPointsCapacity() {
+        ECCurve curve = ECCurve.P384
+        def points = (0..ECCurve.VALIDATED_POINTS_CAPACITY).collect {
+            ((ECPublicKey) curve.keyPair().build().getPublic()).getW()
+        }
+        points.each { assertTrue curve.containsAndRemember(it) }
+        assertFalse curve.isValidated(points[0]) // evicted
+        assertTrue curve.isValidated(points[-1])
+    }
+
     @Test
     void testFindByJcaEllipticCurve() {
         ECCurve.VALUES.each {
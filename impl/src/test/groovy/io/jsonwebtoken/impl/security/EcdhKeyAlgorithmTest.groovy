@@ -43,6 +43,17 @@ class EcdhKeyAlgorithmTest {
         return Jwts.header().add('alg', 'foo').add('enc', 'bar')
     }
 
+    @Test
+    void testEphemeralPublicKeyIsNotRemembered() {
+        def pair = TestKeys.ES256.pair
+        String jwe = Jwts.builder().subject('me').encryptWith(pair.public as PublicKey, Jwts.KEY.ECDH_ES, Jwts.ENC.A128GCM)
+                .compact()
+        def parsed = Jwts.parser().decryptWith(pair.private as PrivateKey).build().parseEncryptedClaims(jwe)
+        assertEquals 'me', parsed.getPayload().getSubject()
+        def epk = parsed.getHeader().getEphemeralPublicKey().toKey() as ECPublicKey
+        assertFalse ECCurve.P256.isValidated(epk.getW())
+    }
+
     @Test
     void testEdwardsEncryptionWithRequestProvider() {
         def alg = new EcdhKeyAlgorithm()
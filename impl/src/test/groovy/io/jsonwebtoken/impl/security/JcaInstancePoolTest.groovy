@@ -0,0 +1,409 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.security
+
+import io.jsonwebtoken.impl.lang.CheckedFunction
+import io.jsonwebtoken.security.SecurityException
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+
+import javax.crypto.Cipher
+import javax.crypto.Mac
+import javax.crypto.MacSpi
+import javax.crypto.SecretKey
+import javax.crypto.spec.SecretKeySpec
+import java.security.InvalidKeyException
+import java.security.Key
+import java.security.KeyFactory
+import java.security.MessageDigest
+import java.security.Provider
+import java.security.Security
+import java.security.Signature
+
+import static org.junit.Assert.*
+
+class JcaInstancePoolTest {
+
+    JcaInstancePool pool = JcaInstancePool.INSTANCE
+
+    @Before
+    void setUp() {
+        JcaInstancePool.clear()
+    }
+
+    @After
+    void tearDown() {
+        JcaInstancePool.clear()
+    }
+
+    @Test
+    void testSupports() {
+        assertTrue pool.supports(Mac)
+        assertTrue pool.supports(Signature)
+        assertTrue pool.supports(Cipher)
+        assertTrue pool.supports(MessageDigest)
+        assertFalse pool.supports(KeyFactory)
+        assertFalse pool.supports(null)
+    }
+
+    @Test
+    void testTakeEmpty() {
+        assertNull pool.take(Mac, 'HmacSHA256', null)
+    }
+
+    @Test
+    void testReleaseAndTake() {
+        def mac = Mac.getInstance('HmacSHA256')
+        pool.release(Mac, 'HmacSHA256', null, mac)
+        assertSame mac, pool.take(Mac, 'HmacSHA256', null)
+        assertNull pool.take(Mac, 'HmacSHA256', null) // taken instances are no longer available
+    }
+
+    @Test
+    void testKeyedByProviderIdentity() {
+        def provider = Security.getProvider('SunJCE')
+        def mac = Mac.getInstance('HmacSHA256', provider)
+        pool.release(Mac, 'HmacSHA256', provider, mac)
+        assertNull pool.take(Mac, 'HmacSHA256', null)
+        assertNull pool.take(Mac, 'HmacSHA384', provider)
+        assertNull pool.take(Signature, 'HmacSHA256', provider)
+        assertSame mac, pool.take(Mac, 'HmacSHA256', provider)
+    }
+
+    @Test
+    void testPerThread() {
+        def mac = Mac.getInstance('HmacSHA256')
+        pool.release(Mac, 'HmacSHA256', null, mac)
+        def other = null
+        def t = Thread.start { other = pool.take(Mac, 'HmacSHA256', null) }
+        t.join()
+        assertNull other
+        assertSame mac, pool.take(Mac, 'HmacSHA256', null)
+    }
+
+    @Test
+    void testMaxThreadInstances() {
+        for (int i = 0; i < JcaInstancePool.MAX_THREAD_INSTANCES + 1; i++) {
+            pool.release(Mac, "alg$i" as String, null, Mac.getInstance('HmacSHA256'))
+        }
+        assertNotNull pool.take(Mac, 'alg0', null)
+        assertNull pool.take(Mac, "alg${JcaInstancePool.MAX_THREAD_INSTANCES}" as String, null)
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testReleaseWrongType() {
+        pool.release(Mac, 'HmacSHA256', null, MessageDigest.getInstance('SHA-256'))
+    }
+
+    @Test
+    void testTemplateReusesInstance() {
+        def template = new JcaTemplate('HmacSHA256', null, null, pool)
+        def fn = new CheckedFunction<Mac, Mac>() {
+            @Override
+            Mac apply(Mac mac) throws Exception {
+                return mac
+            }
+        }
+        def first = template.withMac(fn)
+        assertSame first, template.withMac(fn)
+    }
+
+    @Test
+    void testTemplateReusesInstanceWithProvider() {
+        def template = new JcaTemplate('HmacSHA256', Security.getProvider('SunJCE'), null, pool)
+        def fn = new CheckedFunction<Mac, Mac>() {
+            @Override
+            Mac apply(Mac mac) throws Exception {
+                return mac
+            }
+        }
+        def first = template.withMac(fn)
+        assertSame first, template.withMac(fn)
+    }
+
+    @Test
+    void testTemplateRetriesInvalidKeyOnlyForReusedInstances() {
+        def template = new JcaTemplate('HmacSHA256', null, null, pool)
+        def instances = []
+        def fn = new CheckedFunction<Mac, Mac>() {
+            @Override
+            Mac apply(Mac mac) throws Exception {
+                instances.add(mac)
+                throw new InvalidKeyException('invalid')
+            }
+        }
+        try {
+            template.withMac(fn)
+            fail()
+        } catch (SecurityException expected) {
+            assertTrue expected.getCause() instanceof InvalidKeyException
+        }
+        assertEquals 1, instances.size() // a new instance is not retried
+
+        Mac pooled = Mac.getInstance('HmacSHA256')
+        pool.release(Mac, 'HmacSHA256', null, pooled)
+        instances.clear()
+        try {
+            template.withMac(fn)
+            fail()
+        } catch (SecurityException expected) {
+            assertTrue expected.getCause() instanceof InvalidKeyException
+        }
+        assertEquals 2, instances.size() // the reused instance, then a new one
+        assertSame pooled, instances[0]
+        assertNotSame pooled, instances[1]
+        assertNull pool.take(Mac, 'HmacSHA256', null) // neither was released
+    }
+
+    @Test
+    void testTemplateWithKeysFromDifferentProviders() {
+        def provider = new TestKeyProvider()
+        Security.insertProviderAt(provider, 1)
+        try {
+            def template = new JcaTemplate('HmacSHA256', null, null, pool)
+            def fn = { Key key ->
+                return new CheckedFunction<Mac, Provider>() {
+                    @Override
+                    Provider apply(Mac mac) throws Exception {
+                        mac.init(key)
+                        mac.doFinal()
+                        return mac.getProvider()
+                    }
+                }
+            }
+            assertSame provider, template.withMac(fn(new TestKey()))
+            // the pooled instance rejects a different key, which must still be able to select its own provider:
+            assertEquals 'SunJCE', template.withMac(fn(TestKeys.HS256)).getName()
+            // and the new instance that replaced it is pooled:
+            assertEquals 'SunJCE', pool.take(Mac, 'HmacSHA256', null).getProvider().getName()
+            assertSame provider, template.withMac(fn(new TestKey()))
+        } finally {
+            Security.removeProvider(provider.getName())
+        }
+    }
+
+    @Test
+    void testTemplateNestedCallbacksUseDistinctInstances() {
+        def template = new JcaTemplate('HmacSHA256', null, null, pool)
+        def instances = template.withMac(new CheckedFunction<Mac, List<Mac>>() {
+            @Override
+            List<Mac> apply(Mac outer) throws Exception {
+                Mac inner = template.withMac(new CheckedFunction<Mac, Mac>() {
+                    @Override
+                    Mac apply(Mac mac) throws Exception {
+                        return mac
+                    }
+                })
+                return [outer, inner]
+            }
+        })
+        assertNotSame instances[0], instances[1]
+    }
+
+    @Test
+    void testTemplateDiscardsInstanceOnFailure() {
+        def template = new JcaTemplate('HmacSHA256', null, null, pool)
+        Mac failed = null
+        try {
+            template.withMac(new CheckedFunction<Mac, Object>() {
+                @Override
+                Object apply(Mac mac) throws Exception {
+                    failed = mac
+                    throw new IllegalStateException('test')
+                }
+            })
+            fail()
+        } catch (SecurityException expected) {
+        }
+        assertNotNull failed
+        assertNull pool.take(Mac, 'HmacSHA256', null)
+    }
+
+    @Test
+    void testTemplateIgnoresUnpoolableTypes() {
+        def template = new JcaTemplate('RSA', null, null, pool)
+        def fn = new CheckedFunction<KeyFactory, KeyFactory>() {
+            @Override
+            KeyFactory apply(KeyFactory kf) throws Exception {
+                return kf
+            }
+        }
+        assertNotSame template.withKeyFactory(fn), template.withKeyFactory(fn)
+    }
+
+    @Test
+    void testReleasedMessageDigestIsReset() {
+        def md = MessageDigest.getInstance('SHA-256')
+        md.update('partial'.getBytes('UTF-8'))
+        pool.release(MessageDigest, 'SHA-256', null, md)
+        def taken = pool.take(MessageDigest, 'SHA-256', null)
+        assertSame md, taken
+        assertArrayEquals MessageDigest.getInstance('SHA-256').digest(), taken.digest()
+    }
+
+    @Test
+    void testSharedInstanceDoesNotPrime() {
+        assertFalse pool.isPrimingMacs()
+        def key = TestKeys.HS256
+        def mac = Mac.getInstance('HmacSHA256')
+        mac.init(key)
+        pool.prime('HmacSHA256', null, key, mac)
+        assertNull pool.primed('HmacSHA256', null, key)
+    }
+
+    @Test(expected = IllegalArgumentException)
+    void testNegativePrimedMacCapacity() {
+        new JcaInstancePool(true, -1)
+    }
+
+    @Test
+    void testPrimedMacs() {
+        def pool = new JcaInstancePool(false, 2)
+        assertTrue pool.isPrimingMacs()
+        assertFalse pool.supports(Mac)
+        def key = TestKeys.HS256
+        byte[] data = 'hello'.getBytes('UTF-8')
+        def mac = Mac.getInstance('HmacSHA256')
+        mac.init(key)
+        assertNull pool.primed('HmacSHA256', null, key)
+        pool.prime('HmacSHA256', null, key, mac)
+        byte[] expected = mac.doFinal(data)
+
+        def clone1 = pool.primed('HmacSHA256', null, key)
+        def clone2 = pool.primed('HmacSHA256', null, key)
+        assertNotSame mac, clone1
+        assertNotSame clone1, clone2
+        assertArrayEquals expected, clone1.doFinal(data)
+        assertArrayEquals expected, clone2.doFinal(data)
+
+        // keyed by identity only, never by key equality:
+        def equalKey = new SecretKeySpec(key.getEncoded(), key.getAlgorithm())
+        assertEquals key, equalKey
+        assertNull pool.primed('HmacSHA256', null, equalKey)
+        assertNull pool.primed('HmacSHA384', null, key)
+    }
+
+    @Test
+    void testPrimedMacsLru() {
+        def pool = new JcaInstancePool(false, 2)
+        def keys = [TestKeys.HS256, TestKeys.HS384, TestKeys.HS512]
+        keys.each { k ->
+            def mac = Mac.getInstance('HmacSHA256')
+            mac.init(k)
+            pool.prime('HmacSHA256', null, k, mac)
+        }
+        assertNull pool.primed('HmacSHA256', null, keys[0]) // evicted
+        assertNotNull pool.primed('HmacSHA256', null, keys[1])
+        assertNotNull pool.primed('HmacSHA256', null, keys[2])
+    }
+
+    @Test
+    void testPrimeUncloneableMac() {
+        def pool = new JcaInstancePool(false, 2)
+        def key = TestKeys.HS256
+        def mac = new Mac(new UncloneableMacSpi(), Security.getProvider('SunJCE'), 'HmacSHA256') {}
+        mac.init(key)
+        pool.prime('HmacSHA256', null, key, mac)
+        assertNull pool.primed('HmacSHA256', null, key)
+        // uncloneable is remembered, so subsequent attempts aren't made even for Macs that could be cloned:
+        def cloneable = Mac.getInstance('HmacSHA256')
+        cloneable.init(key)
+        pool.prime('HmacSHA256', null, key, cloneable)
+        assertNull pool.primed('HmacSHA256', null, key)
+    }
+
+    @Test
+    void testTemplateUsesPrimedMac() {
+        def pool = new JcaInstancePool(false, 4)
+        def key = TestKeys.HS256
+        def template = new JcaTemplate('HmacSHA256', null, null, pool)
+        byte[] data = 'hello'.getBytes('UTF-8')
+        def fn = new CheckedFunction<Mac, byte[]>() {
+            @Override
+            byte[] apply(Mac mac) throws Exception {
+                return mac.doFinal(data)
+            }
+        }
+        def expected = template.withMac(key, fn) // primes
+        assertNotNull pool.primed('HmacSHA256', null, key)
+        assertArrayEquals expected, template.withMac(key, fn) // uses primed clone
+        def plain = new JcaTemplate('HmacSHA256')
+        assertArrayEquals expected, plain.withMac(key, fn)
+    }
+
+    static class TestKey implements SecretKey {
+        @Override
+        String getAlgorithm() {
+            return 'HmacSHA256'
+        }
+
+        @Override
+        String getFormat() {
+            return 'RAW'
+        }
+
+        @Override
+        byte[] getEncoded() {
+            return new byte[32]
+        }
+    }
+
+    static class TestKeyProvider extends TestProvider {
+        TestKeyProvider() {
+            super('test-hsm')
+            put('Mac.HmacSHA256', TestKeyMacSpi.name)
+            put('Mac.HmacSHA256 SupportedKeyClasses', TestKey.name) // only selected for TestKey instances
+        }
+    }
+
+    static class TestKeyMacSpi extends UncloneableMacSpi {
+        @Override
+        protected void engineInit(Key key, java.security.spec.AlgorithmParameterSpec params) {
+            if (!(key instanceof TestKey)) {
+                throw new java.security.InvalidKeyException('Unsupported key.')
+            }
+        }
+    }
+
+    static class UncloneableMacSpi extends MacSpi {
+        @Override
+        protected int engineGetMacLength() {
+            return 32
+        }
+
+        @Override
+        protected void engineInit(Key key, java.security.spec.AlgorithmParameterSpec params) {
+        }
+
+        @Override
+        protected void engineUpdate(byte input) {
+        }
+
+        @Override
+        protected void engineUpdate(byte[] input, int offset, int len) {
+        }
+
+        @Override
+        protected byte[] engineDoFinal() {
+            return new byte[32]
+        }
+
+        @Override
+        protected void engineReset() {
+        }
+    }
+}
@@ -354,6 +354,113 @@ class JcaTemplateTest {
         assertEquals expected, cert
     }
 
+    @Test
+    void testResolvedProviderCached() {
+        def stats = [:]
+        def factory = countingFactory(stats, null, null)
+        def md = factory.get('SHA-256', null)
+        def expected = MessageDigest.getInstance('SHA-256').getProvider()
+        assertSame expected, md.getProvider()
+        assertSame expected, factory.getResolution('SHA-256').provider
+        assertSame expected, factory.getResolvedProvider('SHA-256')
+
+        assertSame expected, factory.get('SHA-256', null).getProvider()
+        assertEquals 1, stats.scans // provider list not iterated again
+        assertEquals([expected, expected], stats.providers) // always obtained directly from the resolved provider
+    }
+
+    @Test
+    void testDelayedSelectionProviderNotPinned() {
+        def factory = JcaTemplate.REGISTRY.get(Signature) as JcaTemplate.JcaInstanceFactory
+        assertNotNull factory.get('SHA256withRSA', null)
+        def resolution = factory.getResolution('SHA256withRSA')
+        assertNotNull resolution
+        assertNull resolution.provider // JCA default provider selection, deferred until init with a key
+        assertNull factory.getResolvedProvider('SHA256withRSA')
+    }
+
+    @Test
+    void testResolvedFallbackProviderCached() {
+        def stats = [:]
+        def factory = countingFactory(stats, new Provider[0], BC_PROVIDER) // default providers don't support it
+        assertSame BC_PROVIDER, factory.get('SHA-256', null).getProvider()
+        assertSame BC_PROVIDER, factory.get('SHA-256', null).getProvider()
+        assertSame BC_PROVIDER, factory.getResolution('SHA-256').provider
+        assertEquals 1, stats.scans
+        assertEquals([BC_PROVIDER, BC_PROVIDER], stats.providers) // no failed default provider attempts
+    }
+
+    @Test
+    void testUnresolvedCached() {
+        def stats = [:]
+        def factory = countingFactory(stats, null, BC_PROVIDER)
+        2.times {
+            try {
+                factory.get('foo', null)
+                fail()
+            } catch (SecurityException expected) {
+                assertEquals "Unable to obtain 'foo' MessageDigest instance from default JCA Provider: " +
+                        'foo MessageDigest not available', expected.getMessage()
+            }
+        }
+        assertSame JcaTemplate.Resolution.DEFAULT, factory.getResolution('foo')
+        assertEquals 1, stats.scans // provider list and fallback not tried again
+        assertEquals([null, null], stats.providers) // only the JCA default provider selection is retried
+    }
+
+    @Test
+    void testFallbackNotRepeatedWithSameProvider() {
+        int callCount = 0
+        def template = new JcaTemplate('RSA', BC_PROVIDER) {
+            @Override
+            protected Provider findBouncyCastle() {
+                return BC_PROVIDER
+            }
+
+            @Override
+            protected PrivateKey generatePrivate(KeyFactory factory, KeySpec spec) throws InvalidKeySpecException {
+                callCount++
+                throw new InvalidKeySpecException('test')
+            }
+        }
+        try {
+            template.generatePrivate(new PKCS8EncodedKeySpec(Bytes.random(16)))
+            fail()
+        } catch (SecurityException expected) {
+        }
+        assertEquals 1, callCount
+    }
+
+    /**
+     * Returns a MessageDigest factory that records provider list scans in {@code stats.scans} and every provider
+     * passed to {@code doGet} in {@code stats.providers}. A non-null {@code available} array replaces the JCA
+     * provider list.
+     */
+    private static JcaTemplate.JcaInstanceFactory<MessageDigest> countingFactory(Map stats, Provider[] available,
+                                                                                 Provider bc) {
+        stats.scans = 0
+        stats.providers = []
+        return new JcaTemplate.JcaInstanceFactory<MessageDigest>(MessageDigest) {
+            @Override
+            protected Provider[] getProviders() {
+                stats.scans++
+                return available != null ? available : super.getProviders()
+            }
+
+            @Override
+            protected Provider findBouncyCastle() {
+                return bc
+            }
+
+            @Override
+            protected MessageDigest doGet(String jcaName, Provider provider) throws Exception {
+                stats.providers.add(provider)
+                return provider != null ? MessageDigest.getInstance(jcaName, provider) :
+                        MessageDigest.getInstance(jcaName)
+            }
+        }
+    }
+
     private static class Jdk8213363JcaTemplate extends JcaTemplate {
         Jdk8213363JcaTemplate(String jcaName) {
             super(jcaName)
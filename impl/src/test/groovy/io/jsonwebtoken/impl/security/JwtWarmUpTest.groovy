@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.security
+
+import io.jsonwebtoken.Identifiable
+import io.jsonwebtoken.Jwts
+import io.jsonwebtoken.security.KeyAlgorithm
+import io.jsonwebtoken.security.KeyRequest
+import io.jsonwebtoken.security.KeyResult
+import io.jsonwebtoken.security.DecryptionKeyRequest
+import org.junit.Test
+
+import javax.crypto.SecretKey
+
+import static org.junit.Assert.*
+
+class JwtWarmUpTest {
+
+    @Test
+    void testWarmUpNoAlgorithms() {
+        def report = Jwts.warmUp()
+        assertEquals([JwtWarmUp.PROVIDERS, JwtWarmUp.JSON], report.keySet() as List)
+        report.values().each { assertTrue it >= 0 }
+    }
+
+    @Test
+    void testWarmUpAlgorithms() {
+        def algs = [Jwts.SIG.HS256, Jwts.SIG.ES256, Jwts.SIG.EdDSA, Jwts.SIG.NONE, Jwts.ENC.A128GCM,
+                    Jwts.ENC.A128CBC_HS256, Jwts.KEY.DIRECT, Jwts.KEY.A128KW, Jwts.KEY.A128GCMKW,
+                    Jwts.KEY.ECDH_ES_A128KW, Jwts.KEY.RSA_OAEP, Jwts.KEY.PBES2_HS256_A128KW, Jwts.ZIP.DEF]
+        def report = Jwts.warmUp(algs as Identifiable[])
+        def expected = [JwtWarmUp.PROVIDERS, JwtWarmUp.JSON] + algs.collect { it.getId() }
+        assertEquals expected, report.keySet() as List
+        try {
+            report.put('foo', 1L)
+            fail()
+        } catch (UnsupportedOperationException expectedEx) { // immutable
+        }
+    }
+
+    @Test
+    void testNullAlgorithm() {
+        try {
+            Jwts.warmUp(Jwts.SIG.HS256, null)
+            fail()
+        } catch (IllegalArgumentException expected) {
+            assertEquals 'Algorithms cannot contain null elements.', expected.getMessage()
+        }
+    }
+
+    @Test
+    void testUnsupportedAlgorithmType() {
+        def alg = new Identifiable() {
+            @Override
+            String getId() {
+                return 'test'
+            }
+        }
+        try {
+            Jwts.warmUp(alg)
+            fail()
+        } catch (IllegalArgumentException expected) {
+            assertTrue expected.getMessage().startsWith('Unable to warm up unsupported algorithm type ')
+        }
+    }
+
+    @Test
+    void testCustomKeyAlgorithm() {
+        def alg = new KeyAlgorithm<SecretKey, SecretKey>() {
+            @Override
+            KeyResult getEncryptionKey(KeyRequest<SecretKey> request) {
+                return null
+            }
+
+            @Override
+            SecretKey getDecryptionKey(DecryptionKeyRequest<SecretKey> request) {
+                return null
+            }
+
+            @Override
+            String getId() {
+                return 'RSA-custom' // standard-looking ids must not be mistaken for the standard algorithms
+            }
+        }
+        try {
+            Jwts.warmUp(alg)
+            fail()
+        } catch (IllegalArgumentException expected) {
+            assertEquals "Unable to warm up non-standard key algorithm 'RSA-custom'.", expected.getMessage()
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 jsonwebtoken.io
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.jsonwebtoken.impl.security
+
+import io.jsonwebtoken.security.Jwks
+import org.junit.Test
+
+import java.security.PublicKey
+import java.security.Security
+
+import static org.junit.Assert.*
+
+class PublicJwkKeyCacheTest {
+
+    static Map<String, ?> values(PublicKey key) {
+        return new LinkedHashMap<String, Object>(Jwks.builder().key(key).build())
+    }
+
+    @Test
+    void testIdenticalJwksShareKey() {
+        def keys = [TestKeys.RS256.pair.public, TestKeys.ES256.pair.public, TestKeys.Ed25519.pair.public,
+                    TestKeys.X25519.pair.public]
+        for (PublicKey key : keys) {
+            def values = values(key)
+            def a = Jwks.builder().add(values).build()
+            def b = Jwks.builder().add(values).build()
+            assertNotSame a, b
+            assertSame a.toKey(), b.toKey()
+            assertEquals key, a.toKey()
+        }
+    }
+
+    @Test
+    void testParsedJwksShareKey() {
+        def json = Jwks.UNSAFE_JSON(Jwks.builder().key(TestKeys.ES384.pair.public).build())
+        assertSame Jwks.parser().build().parse(json).toKey(), Jwks.parser().build().parse(json).toKey()
+    }
+
+    @Test
+    void testDifferentJwksDoNotShareKey() {
+        def a = Jwks.builder().add(values(TestKeys.RS256.pair.public)).build()
+        def b = Jwks.builder().add(values(TestKeys.RS384.pair.public)).build()
+        assertNotEquals a.toKey(), b.toKey()
+    }
+
+    @Test
+    void testProviderNotShared() {
+        def values = values(TestKeys.RS512.pair.public)
+        def shared = Jwks.builder().add(values).build().toKey()
+        def provider = Security.getProvider('SunRsaSign')
+        def a = Jwks.builder().provider(provider).add(values).build()
+        def b = Jwks.builder().provider(provider).add(values).build()
+        assertNotSame shared, a.toKey()
+        assertNotSame a.toKey(), b.toKey()
+        assertEquals shared, a.toKey()
+    }
+
+    @Test
+    void testNullIdNotCached() {
+        def cache = new PublicJwkKeyCache()
+        def key = TestKeys.RS256.pair.public
+        assertSame key, cache.share(null, key)
+        assertNull cache.get(null, PublicKey)
+        assertEquals 0, cache.size()
+    }
+
+    @Test
+    void testShare() {
+        def cache = new PublicJwkKeyCache()
+        def key = TestKeys.RS256.pair.public
+        def equal = Jwks.builder().provider(Security.getProvider('SunRsaSign'))
+                .add(values(key)).build().toKey() as PublicKey
+        assertNotSame key, equal
+        assertSame key, cache.share('id', key)
+        assertSame key, cache.share('id', equal) // existing instance is retained
+        assertSame key, cache.get('id', PublicKey)
+        assertNull cache.get('id', java.security.interfaces.ECPublicKey) // wrong type
+        assertNull cache.get('other', PublicKey)
+        assertEquals 1, cache.size()
+    }
+}